@@ -18,22 +18,49 @@ import com.nimbusds.jose.JWSSigner;
 import org.eclipse.edc.jwt.signer.spi.JwsSignerProvider;
 import org.eclipse.edc.keys.spi.PrivateKeyResolver;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+
+import java.security.PrivateKey;
 
 /**
  * Provides a {@link JWSSigner} that is created based on a private key's algorithm.
- * Note that the private key will be held in memory for the duration of the instantiation of the {@link JWSSigner}.
+ * Signers are cached by private key ID and reused as long as the resolved private key does not change, in which case
+ * the private key is held in memory for as long as its {@link JWSSigner} is cached.
  */
 public class DefaultJwsSignerProvider implements JwsSignerProvider {
 
+    private static final int DEFAULT_CACHE_SIZE = 100;
     private final PrivateKeyResolver privateKeyResolver;
+    private final ConcurrentCache<String, CachedSigner> signers;
 
     public DefaultJwsSignerProvider(PrivateKeyResolver privateKeyResolver) {
+        this(privateKeyResolver, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs the provider with a cache for the created signers.
+     *
+     * @param privateKeyResolver the {@link PrivateKeyResolver}.
+     * @param cacheSize          the maximum number of signers that the cache can hold. Pass 0 to deactivate the cache.
+     */
+    public DefaultJwsSignerProvider(PrivateKeyResolver privateKeyResolver, int cacheSize) {
         this.privateKeyResolver = privateKeyResolver;
+        this.signers = new ConcurrentCache<>(cacheSize);
     }
 
     @Override
     public Result<JWSSigner> createJwsSigner(String privateKeyId) {
         return privateKeyResolver.resolvePrivateKey(privateKeyId)
-                .compose(pk -> Result.ofThrowable(() -> CryptoConverter.createSignerFor(pk)));
+                .compose(pk -> {
+                    var cached = signers.getIfPresent(privateKeyId);
+                    if (cached != null && cached.privateKey().equals(pk)) {
+                        return Result.success(cached.signer());
+                    }
+                    return Result.ofThrowable(() -> CryptoConverter.createSignerFor(pk))
+                            .onSuccess(signer -> signers.put(privateKeyId, new CachedSigner(pk, signer)));
+                });
+    }
+
+    private record CachedSigner(PrivateKey privateKey, JWSSigner signer) {
     }
 }
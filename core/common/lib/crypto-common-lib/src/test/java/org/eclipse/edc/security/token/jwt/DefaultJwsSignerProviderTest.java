@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.security.token.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.eclipse.edc.keys.spi.PrivateKeyResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.security.PrivateKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultJwsSignerProviderTest {
+
+    private static final String KEY_ID = "test-key";
+    private final PrivateKeyResolver privateKeyResolver = mock();
+    private final DefaultJwsSignerProvider provider = new DefaultJwsSignerProvider(privateKeyResolver);
+
+    @Test
+    void createJwsSigner_shouldReuseSigner_whenPrivateKeyUnchanged() throws JOSEException {
+        when(privateKeyResolver.resolvePrivateKey(KEY_ID)).thenReturn(Result.success(createKey()));
+
+        var first = provider.createJwsSigner(KEY_ID);
+        var second = provider.createJwsSigner(KEY_ID);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.getContent()).isSameAs(first.getContent());
+    }
+
+    @Test
+    void createJwsSigner_shouldCreateSigner_whenPrivateKeyChanged() throws JOSEException {
+        when(privateKeyResolver.resolvePrivateKey(KEY_ID)).thenReturn(Result.success(createKey()), Result.success(createKey()));
+
+        var first = provider.createJwsSigner(KEY_ID);
+        var second = provider.createJwsSigner(KEY_ID);
+
+        assertThat(second.succeeded()).isTrue();
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+    }
+
+    @Test
+    void createJwsSigner_shouldFail_whenPrivateKeyNotResolved() {
+        when(privateKeyResolver.resolvePrivateKey(KEY_ID)).thenReturn(Result.failure("not found"));
+
+        var result = provider.createJwsSigner(KEY_ID);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).isEqualTo("not found");
+    }
+
+    private PrivateKey createKey() throws JOSEException {
+        return new ECKeyGenerator(Curve.P_256).generate().toPrivateKey();
+    }
+}
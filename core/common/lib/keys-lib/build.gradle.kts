@@ -21,6 +21,7 @@ plugins {
 dependencies {
     api(project(":spi:common:keys-spi"))
     api(project(":spi:common:core-spi"))
+    implementation(project(":core:common:lib:util-lib"))
     implementation(libs.bouncyCastle.bcpkixJdk18on)
     implementation(libs.nimbus.jwt)
     implementation(libs.tink)
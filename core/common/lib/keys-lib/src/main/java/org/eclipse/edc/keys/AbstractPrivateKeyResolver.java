@@ -27,11 +27,13 @@ import java.security.PrivateKey;
 /**
  * Base class for private key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a {@link Vault}) up to the inheritor.
+ * Parsed keys are cached by key-ID and reused as long as the resolved key material does not change.
  */
 public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     private final KeyParserRegistry registry;
     private final Config config;
     private final Monitor monitor;
+    private final ParsedKeyCache<PrivateKey> parsedKeys = new ParsedKeyCache<>(ParsedKeyCache.DEFAULT_CACHE_SIZE);
 
     public AbstractPrivateKeyResolver(KeyParserRegistry registry, Config config, Monitor monitor) {
         this.registry = registry;
@@ -48,15 +50,7 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
                     monitor.debug("Public key not found, fallback to config. Error: %s".formatted(failure.getFailureDetail()));
                     return resolveFromConfig(id);
                 })
-                .compose(encodedKey -> registry.parse(encodedKey).compose(pk -> {
-                    if (pk instanceof PrivateKey privateKey) {
-                        return Result.success(privateKey);
-                    } else {
-                        var msg = "The specified resource did not contain private key material.";
-                        monitor.warning(msg);
-                        return Result.failure(msg);
-                    }
-                }));
+                .compose(encodedKey -> parsedKeys.get(id, encodedKey, this::parsePrivateKey));
     }
 
     /**
@@ -68,6 +62,18 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     @NotNull
     protected abstract Result<String> resolveInternal(String keyId);
 
+    private Result<PrivateKey> parsePrivateKey(String encodedKey) {
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PrivateKey privateKey) {
+                return Result.success(privateKey);
+            } else {
+                var msg = "The specified resource did not contain private key material.";
+                monitor.warning(msg);
+                return Result.failure(msg);
+            }
+        });
+    }
+
     private Result<String> resolveFromConfig(String keyId) {
         var value = config.getString(keyId, null);
         return value == null ?
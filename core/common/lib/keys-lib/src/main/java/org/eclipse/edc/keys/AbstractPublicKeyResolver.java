@@ -23,9 +23,11 @@ import java.security.PublicKey;
 /**
  * Base class for public key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a DID document, or a URL) up to the inheritor.
+ * Parsed keys are cached by key-ID and reused as long as the resolved key material does not change.
  */
 public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
     private final KeyParserRegistry registry;
+    private final ParsedKeyCache<PublicKey> parsedKeys = new ParsedKeyCache<>(ParsedKeyCache.DEFAULT_CACHE_SIZE);
 
     public AbstractPublicKeyResolver(KeyParserRegistry registry) {
         this.registry = registry;
@@ -35,16 +37,19 @@ public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
     public Result<PublicKey> resolveKey(String id) {
         var encodedKeyResult = resolveInternal(id);
         return encodedKeyResult
-                .compose(encodedKey ->
-                        registry.parse(encodedKey).compose(pk -> {
-                            if (pk instanceof PublicKey publicKey) {
-                                return Result.success(publicKey);
-                            } else return Result.failure("The specified resource did not contain public key material.");
-                        }))
+                .compose(encodedKey -> parsedKeys.get(id, encodedKey, this::parsePublicKey))
                 .recover(f -> Result.failure("No public key could be resolved for key-ID '%s': %s".formatted(id, f.getFailureDetail())));
 
     }
 
     protected abstract Result<String> resolveInternal(String id);
 
+    private Result<PublicKey> parsePublicKey(String encodedKey) {
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PublicKey publicKey) {
+                return Result.success(publicKey);
+            } else return Result.failure("The specified resource did not contain public key material.");
+        });
+    }
+
 }
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.keys;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
+
+import java.util.function.Function;
+
+/**
+ * Keeps parsed key material by key-ID, together with the encoded material it was parsed from. A cached key is returned
+ * only as long as the freshly resolved material is unchanged, so keys updated in the underlying storage are re-parsed on
+ * the next resolution.
+ *
+ * @param <K> the parsed key type.
+ */
+class ParsedKeyCache<K> {
+    static final int DEFAULT_CACHE_SIZE = 100;
+
+    private final ConcurrentCache<String, Entry<K>> cache;
+
+    ParsedKeyCache(int cacheSize) {
+        cache = new ConcurrentCache<>(cacheSize);
+    }
+
+    /**
+     * Returns the cached key if the encoded material is the same it was parsed from, otherwise parses it and caches the
+     * outcome if successful.
+     *
+     * @param keyId      the key-ID.
+     * @param encodedKey the resolved encoded key material.
+     * @param parser     the function that parses the encoded key material.
+     * @return the parsed key.
+     */
+    Result<K> get(String keyId, String encodedKey, Function<String, Result<K>> parser) {
+        var entry = cache.getIfPresent(keyId);
+        if (entry != null && entry.encodedKey().equals(encodedKey)) {
+            return Result.success(entry.key());
+        }
+        return parser.apply(encodedKey)
+                .onSuccess(key -> cache.put(keyId, new Entry<>(encodedKey, key)));
+    }
+
+    private record Entry<K>(String encodedKey, K key) {
+    }
+}
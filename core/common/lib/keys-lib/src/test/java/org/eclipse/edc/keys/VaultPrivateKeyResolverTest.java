@@ -27,10 +27,12 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPrivateKey;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +63,33 @@ class VaultPrivateKeyResolverTest {
         verify(vault, atLeastOnce()).resolveSecret(TEST_SECRET_ALIAS);
     }
 
+    @Test
+    void resolvePrivateKey_shouldReuseParsedKey_whenMaterialUnchanged() {
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+        when(registry.parse(any())).thenReturn(Result.success(createKey()));
+
+        var first = resolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+        var second = resolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        AbstractResultAssert.assertThat(first).isSucceeded();
+        AbstractResultAssert.assertThat(second).isSucceeded().isSameAs(first.getContent());
+        verify(vault, times(2)).resolveSecret(TEST_SECRET_ALIAS);
+        verify(registry, times(1)).parse(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+    }
+
+    @Test
+    void resolvePrivateKey_shouldParseAgain_whenMaterialChanged() {
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER, PrivateTestKeys.ENCODED_PRIVATE_KEY_NOPEM);
+        when(registry.parse(any())).thenReturn(Result.success(createKey()), Result.success(createKey()));
+
+        var first = resolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+        var second = resolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        assertThat(second.getContent()).isNotSameAs(first.getContent());
+        verify(registry).parse(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+        verify(registry).parse(PrivateTestKeys.ENCODED_PRIVATE_KEY_NOPEM);
+    }
+
     @Test
     void resolvePrivateKey_secretNotFound() {
         var result = resolver.resolvePrivateKey(TEST_SECRET_ALIAS);
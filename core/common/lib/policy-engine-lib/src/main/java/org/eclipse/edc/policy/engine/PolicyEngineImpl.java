@@ -40,6 +40,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -62,6 +64,8 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final List<ValidatorRuleEntry<? extends PolicyContext>> preValidators = new ArrayList<>();
     private final List<ValidatorRuleEntry<? extends PolicyContext>> postValidators = new ArrayList<>();
 
+    private final Map<Class<? extends PolicyContext>, ContextFunctions<?>> contextFunctions = new ConcurrentHashMap<>();
+
     private final ScopeFilter scopeFilter;
     private final RuleValidator ruleValidator;
 
@@ -81,11 +85,9 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public <C extends PolicyContext> Result<Void> evaluate(Policy policy, C context) {
-        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(context.getClass());
+        var functions = functionsFor(context);
 
-        var preValidationFailure = preValidators.stream()
-                .filter(isScoped)
-                .map(it -> (PolicyValidatorRule<C>) it.rule())
+        var preValidationFailure = functions.preValidators().stream()
                 .filter(it -> !it.apply(policy, context))
                 .findFirst();
 
@@ -93,65 +95,11 @@ public class PolicyEngineImpl implements PolicyEngine {
             return failValidator("Pre-validator", preValidationFailure.get(), context);
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-
-        ruleFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionRuleFunction((rule) ->
-                                ((PolicyRuleFunction<Rule, C>) entry.function).evaluate(rule, context));
-                    }
-                });
-
-        constraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.permissionFunction(entry.key, (operator, value, permission) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) ->
-                                ((AtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(operator, value, prohibition, context));
-                    }
-                });
-
-        dynamicConstraintFunctions.stream()
-                .filter(isScoped)
-                .forEach(entry -> {
-                    if (Duty.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, duty, context));
-                    } else if (Permission.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, permission, context));
-                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                        evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) ->
-                                ((DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function).evaluate(key, operator, value, prohibition, context));
-                    }
-                });
-
-        var evaluator = evalBuilder.build();
-
-        var filteredPolicy = scopeFilter.applyScope(policy, context.scope());
-
-        var result = evaluator.evaluate(filteredPolicy);
+        var result = functions.evaluator(context).evaluate(scopeFilter.applyScope(policy, context.scope()));
 
         if (result.valid()) {
 
-            var postValidationFailure = postValidators.stream()
-                    .filter(isScoped)
-                    .map(it -> (PolicyValidatorRule<C>) it.rule())
+            var postValidationFailure = functions.postValidators().stream()
                     .filter(it -> !it.apply(policy, context))
                     .findFirst();
 
@@ -204,44 +152,52 @@ public class PolicyEngineImpl implements PolicyEngine {
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType, type, key, function));
+        invalidateContextFunctions();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintRuleFunction<R, C> function) {
         constraintFunctions.add(new ConstraintFunctionEntry(contextType(scope), type, key, function));
+        invalidateContextFunctions();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType, type, function));
+        invalidateContextFunctions();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintRuleFunction<R, C> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(contextType(scope), type, function));
+        invalidateContextFunctions();
     }
 
     @Override
     public <R extends Rule, C extends PolicyContext> void registerFunction(Class<C> contextType, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType, type, function));
+        invalidateContextFunctions();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule, C extends PolicyContext> void registerFunction(String scope, Class<R> type, PolicyRuleFunction<R, C> function) {
         ruleFunctions.add(new RuleFunctionEntry(contextType(scope), type, function));
+        invalidateContextFunctions();
     }
 
     @Override
     public <C extends PolicyContext> void registerPreValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         preValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidateContextFunctions();
     }
 
     @Override
     public <C extends PolicyContext> void registerPostValidator(Class<C> contextType, PolicyValidatorRule<C> validator) {
         postValidators.add(new ValidatorRuleEntry(contextType, validator));
+        invalidateContextFunctions();
     }
 
     @Override
@@ -264,6 +220,85 @@ public class PolicyEngineImpl implements PolicyEngine {
         registerPostValidator(PolicyContext.class, validator);
     }
 
+    /**
+     * Returns the functions and validators bound to the context type. They do not depend on the evaluated policy nor
+     * on the rule bindings, which are applied by the scope filter on every evaluation.
+     * <p>
+     * Neither the scoped policy nor the evaluator are cached: the scoped policy depends on rule bindings that can change
+     * at any time, and an evaluator is bound to a context instance and collects the problems of a single evaluation.
+     */
+    @SuppressWarnings("unchecked")
+    private <C extends PolicyContext> ContextFunctions<C> functionsFor(C context) {
+        return (ContextFunctions<C>) contextFunctions.computeIfAbsent(context.getClass(), this::bindFunctions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C extends PolicyContext> ContextFunctions<C> bindFunctions(Class<? extends PolicyContext> contextType) {
+        Predicate<FunctionEntry<?>> isScoped = entry -> entry.contextType().isAssignableFrom(contextType);
+        var bindings = new ArrayList<BiConsumer<PolicyEvaluator.Builder, C>>();
+
+        ruleFunctions.stream()
+                .filter(isScoped)
+                .forEach(entry -> {
+                    var function = (PolicyRuleFunction<Rule, C>) entry.function;
+                    if (Duty.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.dutyRuleFunction((rule) -> function.evaluate(rule, context)));
+                    } else if (Permission.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.permissionRuleFunction((rule) -> function.evaluate(rule, context)));
+                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.prohibitionRuleFunction((rule) -> function.evaluate(rule, context)));
+                    }
+                });
+
+        constraintFunctions.stream()
+                .filter(isScoped)
+                .forEach(entry -> {
+                    var function = (AtomicConstraintRuleFunction<Rule, C>) entry.function;
+                    if (Duty.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.dutyFunction(entry.key, (operator, value, duty) ->
+                                function.evaluate(operator, value, duty, context)));
+                    } else if (Permission.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.permissionFunction(entry.key, (operator, value, permission) ->
+                                function.evaluate(operator, value, permission, context)));
+                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) ->
+                                function.evaluate(operator, value, prohibition, context)));
+                    }
+                });
+
+        dynamicConstraintFunctions.stream()
+                .filter(isScoped)
+                .forEach(entry -> {
+                    var function = (DynamicAtomicConstraintRuleFunction<Rule, C>) entry.function;
+                    if (Duty.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.dynamicDutyFunction(function::canHandle, (key, operator, value, duty) ->
+                                function.evaluate(key, operator, value, duty, context)));
+                    } else if (Permission.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.dynamicPermissionFunction(function::canHandle, (key, operator, value, permission) ->
+                                function.evaluate(key, operator, value, permission, context)));
+                    } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                        bindings.add((evalBuilder, context) -> evalBuilder.dynamicProhibitionFunction(function::canHandle, (key, operator, value, prohibition) ->
+                                function.evaluate(key, operator, value, prohibition, context)));
+                    }
+                });
+
+        var scopedPreValidators = preValidators.stream()
+                .filter(isScoped)
+                .map(it -> (PolicyValidatorRule<C>) it.rule())
+                .toList();
+
+        var scopedPostValidators = postValidators.stream()
+                .filter(isScoped)
+                .map(it -> (PolicyValidatorRule<C>) it.rule())
+                .toList();
+
+        return new ContextFunctions<>(scopedPreValidators, scopedPostValidators, List.copyOf(bindings));
+    }
+
+    private void invalidateContextFunctions() {
+        contextFunctions.clear();
+    }
+
     @NotNull
     private Result<Void> failValidator(String type, PolicyValidatorRule<?> validator, PolicyContext context) {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.name()));
@@ -293,6 +328,21 @@ public class PolicyEngineImpl implements PolicyEngine {
             PolicyValidatorRule<C> rule
     ) implements FunctionEntry<C> { }
 
+    /**
+     * Validators and functions that apply to a context type, the functions are ready to be bound to a context instance.
+     */
+    private record ContextFunctions<C extends PolicyContext>(
+            List<PolicyValidatorRule<C>> preValidators,
+            List<PolicyValidatorRule<C>> postValidators,
+            List<BiConsumer<PolicyEvaluator.Builder, C>> bindings
+    ) {
+        PolicyEvaluator evaluator(C context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            bindings.forEach(binding -> binding.accept(evalBuilder, context));
+            return evalBuilder.build();
+        }
+    }
+
     private interface FunctionEntry<C extends PolicyContext> {
         Class<C> contextType();
     }
@@ -114,6 +114,52 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void shouldBindFunctionsToEveryContext_whenEvaluatingAgain() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        AtomicConstraintRuleFunction<Permission, TestContext> function = mock();
+        when(function.evaluate(any(), any(), any(), any())).thenReturn(true);
+        policyEngine.registerFunction(TestContext.class, Permission.class, "foo", function);
+        var firstContext = new TestContext();
+        var secondContext = new TestContext();
+
+        var first = policyEngine.evaluate(policyWithPermissionConstraint("foo"), firstContext);
+        var second = policyEngine.evaluate(policyWithPermissionConstraint("foo"), secondContext);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded();
+        verify(function).evaluate(any(), any(), any(), same(firstContext));
+        verify(function).evaluate(any(), any(), any(), same(secondContext));
+    }
+
+    @Test
+    void shouldApplyRuleBindings_whenBoundAfterEvaluation() {
+        policyEngine.registerFunction(TestContext.class, Permission.class, "foo", (op, rv, permission, ctx) -> false);
+        var policy = policyWithPermissionConstraint("foo");
+        var context = new TestContext();
+
+        var beforeBinding = policyEngine.evaluate(policy, context);
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var afterBinding = policyEngine.evaluate(policy, context);
+
+        assertThat(beforeBinding).isSucceeded();
+        assertThat(afterBinding).isFailed();
+    }
+
+    @Test
+    void shouldApplyFunction_whenRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = policyWithPermissionConstraint("foo");
+        var context = new TestContext();
+
+        var beforeRegistration = policyEngine.evaluate(policy, context);
+        policyEngine.registerFunction(TestContext.class, Permission.class, "foo", (op, rv, permission, ctx) -> false);
+        var afterRegistration = policyEngine.evaluate(policy, context);
+
+        assertThat(beforeRegistration).isSucceeded();
+        assertThat(afterRegistration).isFailed();
+    }
+
     @Test
     void validateRuleOutOfScope() {
         // Verifies that a rule will be filtered if its action is not registered. The constraint is registered but should be filtered since it is contained in the permission.
@@ -554,6 +600,14 @@ class PolicyEngineImplTest {
         return Policy.Builder.newInstance().prohibition(prohibition).build();
     }
 
+    private Policy policyWithPermissionConstraint(String leftOperand) {
+        var left = new LiteralExpression(leftOperand);
+        var right = new LiteralExpression(leftOperand);
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        return Policy.Builder.newInstance().permission(permission).build();
+    }
+
     private static class PolicyProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -19,7 +19,10 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +206,38 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    },
+    /**
+     * Sets any other argument into its corresponding position of a statement, leaving the mapping to the driver
+     */
+    OBJECT {
+        @Override
+        public boolean accepts(Object value) {
+            return true;
+        }
+
+        @Override
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setObject(position, argument);
+        }
+    };
+
+    private static final Map<Class<?>, ArgumentHandler> HANDLERS_BY_TYPE = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the handler for an argument. The handler is looked up once per argument type, then served from an index,
+     * so that setting arguments does not scan all the handlers every time.
+     *
+     * @param argument the argument, can be null.
+     * @return the first handler that accepts the argument, {@link #OBJECT} if none does.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_TYPE.computeIfAbsent(argument.getClass(), type -> Arrays.stream(values())
+                .filter(it -> it.accepts(argument))
+                .findFirst()
+                .orElse(OBJECT));
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,20 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that need to be executed for multiple rows, e.g. bulk inserts or updates.
+     * The statement is prepared once and all the argument rows are sent to the database as a single batch.
+     * The default implementation executes the statement once per argument row.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query, one array per row
+     * @return rowsChanged per argument row, in the same order as the arguments
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        return arguments.stream().mapToInt(rowArguments -> execute(connection, sql, rowArguments)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -33,6 +33,11 @@ import static java.util.stream.StreamSupport.stream;
 
 /**
  * The SqlQueryExecutor is capable of executing parametrized SQL queries
+ * <p>
+ * Statements are prepared on every call and closed right after: caching them is left to the JDBC driver, that keeps
+ * the server-side prepared statements per physical connection, keyed by the SQL text (e.g. the PostgreSQL driver does
+ * that after {@code prepareThreshold} executions, bounded by {@code preparedStatementCacheQueries}). Keeping them
+ * open here would outlive the pooled connection they belong to.
  */
 public class SqlQueryExecutor implements QueryExecutor {
 
@@ -60,6 +65,27 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var rowArguments : arguments) {
+                setArguments(statement, rowArguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
@@ -106,14 +132,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
-
-        if (argumentHandler != null) {
-            argumentHandler.handle(statement, position, argument);
-        } else {
-            statement.setObject(position, argument);
-        }
+        ArgumentHandlers.forArgument(argument).handle(statement, position, argument);
     }
 
     @NotNull
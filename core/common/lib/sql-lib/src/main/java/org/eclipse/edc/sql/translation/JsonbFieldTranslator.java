@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.nCopies;
+import static org.eclipse.edc.sql.translation.FieldTranslator.PREPARED_STATEMENT_PLACEHOLDER;
+
+/**
+ * Specialization of the {@link JsonFieldTranslator} for JSONB columns that are indexed with a GIN index.
+ * <p>
+ * Equality and {@code in} criteria on string values are translated into containment predicates, e.g.
+ * {@code properties.'name' = 'foo'} becomes {@code properties::jsonb @> '{"name":"foo"}'::jsonb}, that can be served by
+ * the index instead of extracting the field from every row.
+ * </p>
+ * Values that could also be the text of a number, boolean, object or array are translated by the {@link JsonFieldTranslator},
+ * because a containment predicate would only match JSON strings, while the text comparison matches any JSON type.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        var operandRight = criterion.getOperandRight();
+
+        if (operator.representation().equals("=") && isStringValue(operandRight)) {
+            return new WhereClause(containment(1), toDocument(path, (String) operandRight));
+        }
+
+        if (operator.representation().equals("in") && operandRight instanceof Collection<?> values
+                && !values.isEmpty() && values.stream().allMatch(this::isStringValue)) {
+            var documents = values.stream().map(value -> (Object) toDocument(path, (String) value)).toList();
+            return new WhereClause(containment(documents.size()), documents);
+        }
+
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private String containment(int count) {
+        var predicate = "%s::jsonb @> %s::jsonb".formatted(columnName, PREPARED_STATEMENT_PLACEHOLDER);
+        return "(%s)".formatted(String.join(" OR ", nCopies(count, predicate)));
+    }
+
+    private String toDocument(List<PathItem> path, String value) {
+        JsonNode node = JsonNodeFactory.instance.textNode(value);
+        for (var i = path.size() - 1; i >= 0; i--) {
+            node = JsonNodeFactory.instance.objectNode().set(path.get(i).toString(), node);
+        }
+        return node.toString();
+    }
+
+    private boolean isStringValue(Object value) {
+        if (!(value instanceof String string)) {
+            return false;
+        }
+        try {
+            return MAPPER.readTree(string).isTextual();
+        } catch (JsonProcessingException e) {
+            return true;
+        }
+    }
+}
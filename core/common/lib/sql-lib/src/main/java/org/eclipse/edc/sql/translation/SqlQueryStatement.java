@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -35,6 +36,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String FOR_UPDATE_SKIP_LOCKED = " FOR UPDATE OF %s SKIP LOCKED";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -44,6 +46,7 @@ public class SqlQueryStatement {
     private CriterionToWhereClauseConverter criterionToWhereConditionConverter;
     private SortFieldConverter sortFieldConverter;
     private String orderByClause = "";
+    private String lockingClause = "";
 
     /**
      * Initializes this SQL Query Statement.
@@ -93,6 +96,16 @@ public class SqlQueryStatement {
      * @return the query as SQL statement
      */
     public String getQueryAsString() {
+        return getSubQueryAsString() + ";";
+    }
+
+    /**
+     * Represents this query as SQL string that can be nested into another statement, i.e. without the terminating
+     * semicolon, including parameter placeholders (?)
+     *
+     * @return the query as SQL sub-query
+     */
+    public String getSubQueryAsString() {
         var whereClause = whereClauses.isEmpty() ? "" : whereClauses.stream().collect(joining(" AND ", "WHERE ", " "));
 
         return selectStatement + " " +
@@ -100,7 +113,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
-                ";";
+                lockingClause;
     }
 
     /**
@@ -128,6 +141,48 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Add a where clause that is satisfied when at least one of the passed groups of criteria is satisfied, criteria of
+     * the same group are combined with AND. An empty group is always satisfied, no group at all is never satisfied.
+     *
+     * @param criteriaGroups the groups of criteria.
+     * @return self.
+     */
+    public SqlQueryStatement addAnyOfWhereClause(List<List<Criterion>> criteriaGroups) {
+        if (criteriaGroups.stream().anyMatch(List::isEmpty)) {
+            return this;
+        }
+
+        if (criteriaGroups.isEmpty()) {
+            return addWhereClause("1 = 0");
+        }
+
+        var groups = new ArrayList<String>();
+        for (var criteria : criteriaGroups) {
+            var conditions = new ArrayList<String>();
+            for (var criterion : criteria) {
+                var whereClause = criterionToWhereConditionConverter.convert(criterion);
+                conditions.add(whereClause.sql());
+                parameters.addAll(whereClause.parameters());
+            }
+            groups.add(conditions.stream().collect(joining(" AND ", "(", ")")));
+        }
+        whereClauses.add(groups.stream().collect(joining(" OR ", "(", ")")));
+        return this;
+    }
+
+    /**
+     * Lock the selected rows of the given table for the rest of the transaction, skipping the ones that are already
+     * locked by another transaction instead of waiting for them.
+     *
+     * @param tableName the table whose rows should be locked.
+     * @return self.
+     */
+    public SqlQueryStatement forUpdateSkipLocked(String tableName) {
+        lockingClause = format(FOR_UPDATE_SKIP_LOCKED, tableName);
+        return this;
+    }
+
     private void initialize(QuerySpec query) {
         query.getFilterExpression().stream()
                 .map(criterion -> criterionToWhereConditionConverter.convert(criterion))
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,8 +30,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +56,34 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldPrepareStatementOnce() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 });
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "key1", 1 }, new Object[]{ "key2", 2 }));
+
+        assertThat(result).containsExactly(1, 1);
+        verify(connection, times(1)).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement).setString(1, "key1");
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setString(1, "key2");
+        verify(preparedStatement).setInt(2, 2);
+        verify(preparedStatement, times(2)).addBatch();
+    }
+
+    @Test
+    void executeBatch_shouldNotPrepareStatement_whenNoArguments() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+
+        var result = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(result).isEmpty();
+        verify(connection, never()).prepareStatement(DUMMY_SQL);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -69,6 +102,7 @@ class SqlQueryExecutorTest {
                     Arguments.of((byte) 1, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setByte(1, (byte) 1)),
                     Arguments.of(BigDecimal.valueOf(1L), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBigDecimal(1, BigDecimal.valueOf(1L))),
                     Arguments.of(new Date(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(Mockito.eq(1), Mockito.any(Timestamp.class))),
+                    Arguments.of(new Timestamp(0), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(1, new Timestamp(0))),
                     Arguments.of("bytes".getBytes(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBytes(1, "bytes".getBytes())),
                     Arguments.of(inputStream, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBlob(1, inputStream)),
                     Arguments.of(object, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setObject(1, object))
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldReturnContainment_whenOperatorIsEqualAndRightOperandIsString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"value\"}");
+    }
+
+    @Test
+    void shouldReturnNestedContainment_whenPathHasMultipleEntries() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.'https://namespace/field'", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.'https://namespace/field'"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"https://namespace/field\":\"value\"}}");
+    }
+
+    @Test
+    void shouldReturnContainmentPerValue_whenOperatorIsIn() {
+        var operator = new SqlOperator("in", Collection.class);
+        var criterion = criterion("json.field", "in", List.of("value1", "value2"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name::jsonb @> ?::jsonb OR column_name::jsonb @> ?::jsonb)");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"value1\"}", "{\"field\":\"value2\"}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2.0", "42", "true", "{\"key\": \"value\"}", "[1]" })
+    void shouldReturnTextComparison_whenRightOperandCouldBeOtherJsonType(String value) {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", value);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' = ?");
+        assertThat(result.parameters()).containsExactly(value);
+    }
+
+    @Test
+    void shouldReturnTextComparison_whenOperatorIsInAndAnyValueCouldBeOtherJsonType() {
+        var operator = new SqlOperator("in", Collection.class);
+        var criterion = criterion("json.field", "in", List.of("value", "42"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' in (?,?)");
+        assertThat(result.parameters()).containsExactly("value", "42");
+    }
+
+    @Test
+    void shouldReturnTextComparison_whenOperatorIsLike() {
+        var operator = new SqlOperator("like", String.class);
+        var criterion = criterion("json.field", "like", "val%");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(result.parameters()).containsExactly("val%");
+    }
+}
@@ -114,6 +114,49 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void addAnyOfWhereClause() {
+        var criterion1 = new Criterion("field1", "=", "testid1");
+        var criterion2 = new Criterion("field2", "=", "testid2");
+        var criterion3 = new Criterion("field3", "=", "testid3");
+        when(criterionToWhereClauseConverter.convert(criterion1)).thenReturn(new WhereClause("edc_field_1 = ?", "testid1"));
+        when(criterionToWhereClauseConverter.convert(criterion2)).thenReturn(new WhereClause("edc_field_2 = ?", "testid2"));
+        when(criterionToWhereClauseConverter.convert(criterion3)).thenReturn(new WhereClause("edc_field_3 = ?", "testid3"));
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion1), new TestMapping(), criterionToWhereClauseConverter)
+                .addAnyOfWhereClause(List.of(List.of(criterion2, criterion3), List.of(criterion3)));
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND ((edc_field_2 = ? AND edc_field_3 = ?) OR (edc_field_3 = ?)) LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "testid2", "testid3", "testid3", 50, 0);
+    }
+
+    @Test
+    void addAnyOfWhereClause_shouldNotRestrict_whenOneGroupIsEmpty() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(), new TestMapping(), criterionToWhereClauseConverter)
+                .addAnyOfWhereClause(List.of(List.of(criterion), List.of()));
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ?;");
+        verifyNoInteractions(criterionToWhereClauseConverter);
+    }
+
+    @Test
+    void addAnyOfWhereClause_shouldMatchNothing_whenNoGroups() {
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(), new TestMapping(), criterionToWhereClauseConverter)
+                .addAnyOfWhereClause(List.of());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE 1 = 0 LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void forUpdateSkipLocked() {
+        var t = new SqlQueryStatement(SELECT_STATEMENT, 80, 20).forUpdateSkipLocked("test-table");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ? FOR UPDATE OF test-table SKIP LOCKED;");
+        assertThat(t.getSubQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ? FOR UPDATE OF test-table SKIP LOCKED");
+        assertThat(t.getParameters()).containsExactly(80, 20);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
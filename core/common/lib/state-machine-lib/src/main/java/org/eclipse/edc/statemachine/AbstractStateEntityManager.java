@@ -28,6 +28,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -41,6 +44,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_PROCESSOR_PARALLELISM = 1;
+    public static final int DEFAULT_ENTITY_PARALLELISM = 1;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
@@ -52,11 +57,31 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
     protected S store;
+    protected int processorParallelism = DEFAULT_PROCESSOR_PARALLELISM;
+    protected int entityParallelism = DEFAULT_ENTITY_PARALLELISM;
+    /**
+     * Executor on which the entities of a batch are processed, it should be passed to the processors.
+     * Entities are processed on the calling thread unless the entity parallelism is greater than 1.
+     */
+    protected Executor entityExecutor = Runnable::run;
+    private ExecutorService entityExecutorService;
 
     @Override
     public void start() {
+        var name = getClass().getSimpleName();
+        if (entityParallelism > 1) {
+            entityExecutorService = executorInstrumentation.instrument(
+                    Executors.newFixedThreadPool(entityParallelism, r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("StateMachineManager-" + name + "-entity");
+                        return thread;
+                    }), name + "-entity");
+            entityExecutor = entityExecutorService;
+        }
+
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(name, monitor, executorInstrumentation, waitStrategy)
+                .parallelism(processorParallelism);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -65,7 +90,17 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     @Override
     public void stop() {
         if (stateMachineManager != null) {
-            stateMachineManager.stop();
+            // entities of the running iteration could still be submitted to the entity executor
+            stateMachineManager.stop().whenComplete((stopped, throwable) -> shutdownEntityExecutor());
+        } else {
+            shutdownEntityExecutor();
+        }
+    }
+
+    @Override
+    public void wakeup() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeup();
         }
     }
 
@@ -77,6 +112,12 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    private void shutdownEntityExecutor() {
+        if (entityExecutorService != null) {
+            entityExecutorService.shutdown();
+        }
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
@@ -138,6 +179,28 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Maximum number of processors that run concurrently on every state machine iteration.
+         *
+         * @param processorParallelism the processor parallelism.
+         * @return the builder.
+         */
+        public B processorParallelism(int processorParallelism) {
+            manager.processorParallelism = processorParallelism;
+            return self();
+        }
+
+        /**
+         * Maximum number of entities of a batch that are processed concurrently.
+         *
+         * @param entityParallelism the entity parallelism.
+         * @return the builder.
+         */
+        public B entityParallelism(int entityParallelism) {
+            manager.entityParallelism = entityParallelism;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
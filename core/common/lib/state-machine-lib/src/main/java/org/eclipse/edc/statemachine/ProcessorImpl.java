@@ -16,6 +16,9 @@ package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,6 +36,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - An {@link Executor} can be registered, the entities of a batch will be processed concurrently on it. By default,
+ * they are processed one after the other on the calling thread.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +47,7 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private Executor executor = Runnable::run;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,19 +55,39 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
+        var futures = entities.get().stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> process(entity), executor))
+                .toList();
+
+        return futures.stream()
+                .map(this::join)
                 .filter(isEqual(true))
                 .count();
     }
 
+    private boolean process(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
+    private boolean join(CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -95,6 +121,18 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines the executor on which the entities of a batch are processed. Entities are processed concurrently,
+         * so the executor should be bounded.
+         *
+         * @param executor the executor.
+         * @return the builder.
+         */
+        public Builder<E> executor(Executor executor) {
+            processor.executor = executor;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
@@ -22,10 +22,13 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -33,23 +36,33 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
- * On every iteration it runs all the set processors sequentially,
- * applying a wait strategy in the case no entities are processed on the iteration.
+ * On every iteration it runs all the set processors, sequentially or concurrently depending on the configured
+ * parallelism, applying a wait strategy in the case no entities are processed on the iteration.
+ * Processors can run concurrently because every entity is leased by the processor that fetched it.
+ * The wait can be interrupted by calling {@link #wakeup()}, e.g. when new entities are created.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicLong iteration = new AtomicLong();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
     private int shutdownTimeout = 10;
+    private int parallelism = 1;
+    private ExecutorService processorsExecutor;
+    private Future<?> nextIteration;
+    private boolean waiting = false;
+    private boolean wakeupRequested = false;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -64,21 +77,40 @@ public class StateMachineManager {
      * @return a future that will complete when the loop starts
      */
     public Future<?> start() {
+        if (parallelism > 1 && processors.size() > 1) {
+            processorsExecutor = instrumentation.instrument(
+                    Executors.newFixedThreadPool(Math.min(parallelism, processors.size()), r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("StateMachineManager-" + name + "-processor");
+                        return thread;
+                    }), name + "-processor");
+        }
         active.set(true);
         return scheduleNextIterationIn(0L);
     }
 
     /**
-     * Stop the loop gracefully
+     * Stop the loop gracefully: the running iteration is completed, the processors executor is shut down only after
+     * that, because the iteration could still be submitting processors to it.
      *
      * @return a future that will complete when the loop is fully stopped. The content of the future will be true if stop happened before the timeout, false elsewhere.
      */
     public CompletableFuture<Boolean> stop() {
-        active.set(false);
+        synchronized (this) {
+            active.set(false);
+            if (nextIteration != null) {
+                nextIteration.cancel(false);
+            }
+            executor.shutdown();
+        }
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var stopped = executor.awaitTermination(shutdownTimeout, SECONDS);
+                if (processorsExecutor != null) {
+                    processorsExecutor.shutdown();
+                }
+                return stopped;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -95,9 +127,21 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
+    /**
+     * Signals that there could be new entities to be processed: if the loop is waiting, the next iteration will start
+     * right away, if it is running, the next iteration won't wait even if no entity gets processed.
+     */
+    public synchronized void wakeup() {
+        wakeupRequested = true;
+        if (active.get() && waiting) {
+            scheduleNextIterationIn(0L);
+        }
+    }
+
+    private Runnable loop(long scheduledIteration) {
         return () -> {
-            if (active.get()) {
+            // an iteration that has been superseded by a wakeup must not run
+            if (active.get() && iteration.get() == scheduledIteration) {
                 performLogic();
             }
         };
@@ -105,15 +149,19 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            synchronized (this) {
+                wakeupRequested = false;
+            }
+
+            var processed = processorsExecutor == null ? processSequentially() : processConcurrently();
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            synchronized (this) {
+                var delay = processed == 0 && !wakeupRequested ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
+                scheduleNextIterationIn(delay);
+            }
         } catch (Error e) {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
@@ -123,9 +171,44 @@ public class StateMachineManager {
         }
     }
 
+    private long processSequentially() {
+        return processors.stream()
+                .mapToLong(Processor::process)
+                .sum();
+    }
+
+    private long processConcurrently() {
+        var futures = processors.stream()
+                .map(processor -> CompletableFuture.supplyAsync(processor::process, processorsExecutor))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .mapToLong(CompletableFuture::join)
+                    .sum();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+        if (!active.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (nextIteration != null) {
+            // a waiting iteration that has been superseded by a wakeup would otherwise delay the shutdown
+            nextIteration.cancel(false);
+        }
+        waiting = delayMillis > 0;
+        nextIteration = executor.schedule(loop(iteration.incrementAndGet()), delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -145,6 +228,18 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Maximum number of processors that run concurrently on every iteration. Default is 1, that means that
+         * processors are run sequentially on the state machine thread.
+         *
+         * @param parallelism the parallelism.
+         * @return the builder.
+         */
+        public Builder parallelism(int parallelism) {
+            loop.parallelism = parallelism;
+            return this;
+        }
+
         public Builder shutdownTimeout(int seconds) {
             loop.shutdownTimeout = seconds;
             return this;
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.List;
+
+/**
+ * Wakes up the registered {@link StateEntityManager}s on every received event, so that entities created or
+ * transitioned outside the state machine get processed without waiting for the next polling iteration.
+ */
+public class WakeupEventSubscriber implements EventSubscriber {
+
+    private final List<StateEntityManager> managers;
+
+    public WakeupEventSubscriber(StateEntityManager... managers) {
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        managers.forEach(StateEntityManager::wakeup);
+    }
+}
@@ -25,4 +25,25 @@ import java.util.function.Supplier;
  */
 public record EntityRetryProcessConfiguration(int retryLimit, Supplier<WaitStrategy> delayStrategySupplier) {
 
+    /**
+     * Returns the time that has to pass after the last failure before the next retry can be attempted.
+     *
+     * @param failures the number of failures observed.
+     * @return the delay in milliseconds, 0 if there were no failures.
+     */
+    public long retryDelayMillis(int failures) {
+        if (failures <= 0) {
+            return 0;
+        }
+
+        // Get a new instance of WaitStrategy.
+        var delayStrategy = delayStrategySupplier.get();
+
+        // Set the WaitStrategy to have observed <retryCount> previous failures.
+        // This is relevant for stateful strategies such as exponential wait.
+        delayStrategy.failures(failures);
+
+        // Get the delay time following the number of failures.
+        return delayStrategy.retryInMillis();
+    }
 }
@@ -116,6 +116,8 @@ public class RetryProcessor<E extends StatefulEntity<E>, C> {
                                 onFinalFailure.accept(entity, entityStateException);
                             } else {
                                 monitor.debug(entityStateException.getRetryFailedMessage());
+                                // the entity won't be fetched by the store before the next retry is due
+                                entity.setNextAttemptAt(clock.millis() + configuration.retryDelayMillis(entity.getStateCount()));
                                 onFailure.accept(entity, entityStateException);
                             }
                         } else {
@@ -133,17 +135,7 @@ public class RetryProcessor<E extends StatefulEntity<E>, C> {
     }
 
     private long delayMillis(E entity) {
-        // Get a new instance of WaitStrategy.
-        var delayStrategy = configuration.delayStrategySupplier().get();
-
-        // Set the WaitStrategy to have observed <retryCount> previous failures.
-        // This is relevant for stateful strategies such as exponential wait.
-        delayStrategy.failures(entity.getStateCount() - 1);
-
-        // Get the delay time following the number of failures.
-        var waitMillis = delayStrategy.retryInMillis();
-
-        return entity.getStateTimestamp() + waitMillis - clock.millis();
+        return entity.getStateTimestamp() + configuration.retryDelayMillis(entity.getStateCount() - 1) - clock.millis();
     }
 
 }
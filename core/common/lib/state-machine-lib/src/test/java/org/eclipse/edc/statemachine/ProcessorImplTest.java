@@ -18,10 +18,14 @@ import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -117,4 +121,39 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsSet() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build());
+        var latch = new CountDownLatch(entities.size());
+        var executor = Executors.newFixedThreadPool(entities.size());
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> {
+                    latch.countDown();
+                    try {
+                        return latch.await(1, SECONDS);
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                })
+                .executor(executor)
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRethrowException_whenProcessFails() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(entity))
+                .process(e -> {
+                    throw new IllegalStateException("error");
+                })
+                .build();
+
+        assertThatThrownBy(processor::process).isInstanceOf(IllegalStateException.class);
+    }
 }
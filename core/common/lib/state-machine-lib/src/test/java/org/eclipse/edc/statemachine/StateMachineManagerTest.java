@@ -21,13 +21,18 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +140,95 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldExecuteProcessorsConcurrently_whenParallelismIsSet() {
+        var latch = new CountDownLatch(2);
+        Processor processor = () -> {
+            latch.countDown();
+            try {
+                return latch.await(1, SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            assertThat(latch.getCount()).isZero();
+            verify(waitStrategy, atLeastOnce()).success();
+            verify(waitStrategy, never()).waitForMillis();
+        });
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldCompleteRunningIteration_whenStopped() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Processor blocking = () -> {
+            started.countDown();
+            try {
+                return release.await(1, SECONDS) ? 1L : 0L;
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(blocking)
+                .processor(processor)
+                .parallelism(2)
+                .build();
+
+        stateMachine.start();
+        assertThat(started.await(1, SECONDS)).isTrue();
+
+        var stopped = stateMachine.stop();
+        release.countDown();
+
+        assertThat(stopped).succeedsWithin(2, SECONDS).isEqualTo(true);
+        verify(monitor, never()).severe(anyString(), any());
+    }
+
+    @Test
+    void shouldNotWaitForNextIteration_whenStopped() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor).process());
+
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS).isEqualTo(true);
+        verify(processor).process();
+    }
+
+    @Test
+    void shouldRunIterationRightAway_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor).process());
+
+        stateMachine.wakeup();
+
+        await().untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
 }
@@ -140,6 +140,26 @@ class RetryProcessorTest {
         verifyNoInteractions(success, finalFailure);
     }
 
+    @Test
+    void shouldSetNextAttemptAt_whenFailureHappensAndRetryLimitNotExceeded() {
+        var entityId = UUID.randomUUID().toString();
+        var entity = TestEntity.Builder.newInstance().id(entityId).stateTimestamp(shouldNotDelayTime).stateCount(1).build();
+
+        org.eclipse.edc.statemachine.retry.processor.Process<TestEntity, Object, String> process = context -> failedFuture(new EntityStateException(
+                TestEntity.Builder.newInstance().id(entityId).stateCount(1).build(), "process", "generic error"));
+
+        var processed = new RetryProcessor<>(entity, monitor, clock, configuration)
+                .doProcess(process)
+                .onSuccess(success)
+                .onFailure(failure)
+                .onFinalFailure(finalFailure)
+                .execute();
+
+        assertThat(processed).isTrue();
+        assertThat(entity.getNextAttemptAt()).isEqualTo(millis + DELAY);
+        verify(failure).accept(same(entity), isA(Throwable.class));
+    }
+
     @Test
     void shouldInvokeFinalFailureHandler_whenRetryExhausted() {
         var entityId = UUID.randomUUID().toString();
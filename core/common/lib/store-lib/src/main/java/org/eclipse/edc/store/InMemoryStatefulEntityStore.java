@@ -79,6 +79,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
             var entities = entitiesById.values().stream()
                     .filter(filterPredicate)
                     .filter(e -> !isLeased(e.getId()))
+                    .filter(e -> e.getNextAttemptAt() <= clock.millis())
                     .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
                     .limit(max)
                     .toList();
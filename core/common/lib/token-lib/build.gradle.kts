@@ -24,6 +24,7 @@ dependencies {
     api(project(":spi:common:jwt-signer-spi"))
 
     implementation(project(":core:common:lib:crypto-common-lib")) // for the CryptoConverter
+    implementation(project(":core:common:lib:util-lib"))
     implementation(libs.nimbus.jwt)
     api(libs.bouncyCastle.bcpkixJdk18on)
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -24,13 +25,32 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.List;
 
+/**
+ * Default {@link TokenValidationService}. The {@link JWSVerifier}s are cached by public key, so that only the signature
+ * verification is performed when tokens signed with the same key are validated.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int DEFAULT_CACHE_SIZE = 100;
+    private final ConcurrentCache<PublicKey, JWSVerifier> verifiers;
+
     public TokenValidationServiceImpl() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs the service with a cache for the verifiers.
+     *
+     * @param cacheSize the maximum number of verifiers that the cache can hold. Pass 0 to deactivate the cache.
+     */
+    public TokenValidationServiceImpl(int cacheSize) {
+        this.verifiers = new ConcurrentCache<>(cacheSize);
     }
 
     @Override
@@ -47,9 +67,9 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapFailure();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifier = verifiers.get(publicKeyResolutionResult.getContent(), CryptoConverter::createVerifierFor);
 
-            if (!signedJwt.verify(verifierCreationResult)) {
+            if (!signedJwt.verify(verifier)) {
                 return Result.failure("Token verification failed");
             }
 
@@ -82,5 +102,4 @@ public class TokenValidationServiceImpl implements TokenValidationService {
             return Result.failure("Failed to decode token");
         }
     }
-
 }
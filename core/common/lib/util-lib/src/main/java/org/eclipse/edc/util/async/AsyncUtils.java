@@ -14,8 +14,13 @@
 
 package org.eclipse.edc.util.async;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -32,4 +37,50 @@ public class AsyncUtils {
 
         return Collectors.collectingAndThen(Collectors.toList(), finisher);
     }
+
+    /**
+     * Applies the function to every item concurrently on the given executor, and returns the results in the same order
+     * as the items. The calling thread takes part in the work: it runs every item that the executor has not started yet,
+     * so a saturated executor, or one that rejects tasks, slows the call down but never blocks it.
+     * If several functions throw, the exception of the first item in order is rethrown.
+     *
+     * @param items    the items.
+     * @param function the function to apply.
+     * @param executor the executor.
+     * @return the results, in the order of the items.
+     */
+    public static <T, R> List<R> applyConcurrently(List<T> items, Function<T, R> function, Executor executor) {
+        var tasks = items.stream().map(item -> new FutureTask<>(() -> function.apply(item))).toList();
+        for (var i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                // the task will be run by the calling thread
+            }
+        }
+
+        var results = new ArrayList<R>(tasks.size());
+        for (var task : tasks) {
+            task.run(); // no-op if the task was already started by the executor
+            results.add(join(task));
+        }
+        return results;
+    }
+
+    private static <R> R join(FutureTask<R> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 }
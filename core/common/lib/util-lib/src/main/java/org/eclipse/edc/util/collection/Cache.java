@@ -31,7 +31,11 @@ import static java.util.Optional.ofNullable;
  * a {@code cacheEntryUpdateFunction}, which encapsulates the re-fetching of the expired value.
  * <p>
  * This cache is thread-safe.
+ *
+ * @deprecated the refresh function runs while holding a global lock, so lookups of unrelated keys get serialized. Use
+ *         {@link ConcurrentCache} instead.
  */
+@Deprecated(since = "0.12.0")
 public class Cache<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final Map<K, TimestampedValue<V>> cache = new HashMap<>();
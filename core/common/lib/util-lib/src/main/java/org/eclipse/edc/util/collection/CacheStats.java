@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+/**
+ * Statistics of a {@link ConcurrentCache}.
+ *
+ * @param hitCount      number of lookups that returned a cached value.
+ * @param missCount     number of lookups that did not find a valid cached value.
+ * @param evictionCount number of entries evicted because they expired or the maximum size was exceeded.
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+    /**
+     * Returns the ratio of lookups that returned a cached value, 1 if there were no lookups.
+     *
+     * @return the hit rate.
+     */
+    public double hitRate() {
+        var requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache that never serializes lookups of unrelated keys:
+ * <ul>
+ *     <li>entries are kept in a {@link ConcurrentHashMap}, reads don't acquire any lock</li>
+ *     <li>loading is single-flight: concurrent lookups of the same missing or expired key wait for the one in-flight
+ *     load instead of invoking the loader again, while lookups of other keys proceed</li>
+ *     <li>entries expire after the cache validity, or after an individual validity set when they were loaded or put</li>
+ *     <li>when the maximum size is exceeded, entries are evicted in insertion order, skipping the ones accessed since
+ *     they were last considered (second chance, an approximation of least recently used). Expired entries are evicted
+ *     regardless of their accesses. Each eviction takes constant time</li>
+ *     <li>hits, misses and evictions are counted, see {@link #stats()}</li>
+ * </ul>
+ * {@code null} values are never cached. The maximum size includes the entries being loaded. Every insertion evicts
+ * entries until the size is back within the maximum, so it is only exceeded while insertions are in flight. A maximum
+ * size of 0 deactivates the cache, every lookup then invokes the loader.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class ConcurrentCache<K, V> {
+    public static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final long validityMillis;
+    private final Clock clock;
+    private final Queue<Node<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedNodes = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a cache whose entries never expire, they are only evicted when the maximum size is exceeded.
+     *
+     * @param maximumSize the maximum number of entries. Pass 0 to deactivate the cache.
+     */
+    public ConcurrentCache(int maximumSize) {
+        this(maximumSize, NO_EXPIRATION, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param maximumSize    the maximum number of entries. Pass 0 to deactivate the cache.
+     * @param validityMillis the default time in milliseconds an entry is valid after it was loaded or put.
+     * @param clock          the {@link Clock}.
+     */
+    public ConcurrentCache(int maximumSize, long validityMillis, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.validityMillis = validityMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value, or loads it if it is missing or expired. The loaded value is cached with the default
+     * validity.
+     *
+     * @param key    the key.
+     * @param loader the function that loads the value. Exceptions are propagated to all the callers waiting for the load.
+     * @return the value, null if the loader returned null.
+     */
+    public V get(K key, Function<K, V> loader) {
+        return get(key, loader, value -> validityMillis);
+    }
+
+    /**
+     * Returns the cached value, or loads it if it is missing or expired. The loaded value is cached with the validity
+     * returned by the validity function, values with a validity lower or equal to 0 are returned but not cached.
+     *
+     * @param key              the key.
+     * @param loader           the function that loads the value. Exceptions are propagated to all the callers waiting for the load.
+     * @param validityFunction the function that returns the validity in milliseconds of a loaded value.
+     * @return the value, null if the loader returned null.
+     */
+    public V get(K key, Function<K, V> loader, ToLongFunction<V> validityFunction) {
+        if (maximumSize <= 0) {
+            misses.increment();
+            return loader.apply(key);
+        }
+
+        while (true) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                var loading = new Entry<V>();
+                if (entries.putIfAbsent(key, loading) == null) {
+                    return load(key, loading, loader, validityFunction);
+                }
+            } else if (entry.isLoading()) {
+                misses.increment();
+                return await(entry);
+            } else if (entry.isFailed()) {
+                entries.remove(key, entry);
+            } else if (entry.isExpired(clock.millis())) {
+                var loading = new Entry<V>();
+                if (entries.replace(key, entry, loading)) {
+                    return load(key, loading, loader, validityFunction);
+                }
+            } else {
+                hits.increment();
+                entry.touch();
+                return entry.value();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value if present and not expired.
+     *
+     * @param key the key.
+     * @return the value, null if it is not cached.
+     */
+    public V getIfPresent(K key) {
+        var entry = entries.get(key);
+        if (entry == null || entry.isLoading() || entry.isFailed()) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.touch();
+        return entry.value();
+    }
+
+    /**
+     * Puts a value in the cache with the default validity.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        put(key, value, validityMillis);
+    }
+
+    /**
+     * Puts a value in the cache with an individual validity. A validity lower or equal to 0 removes the key instead.
+     *
+     * @param key            the key.
+     * @param value          the value.
+     * @param validityMillis the time in milliseconds the entry is valid.
+     */
+    public void put(K key, V value, long validityMillis) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        if (value == null || validityMillis <= 0) {
+            entries.remove(key);
+            return;
+        }
+        var entry = new Entry<V>();
+        entry.complete(value, expiration(validityMillis));
+        entries.put(key, entry);
+        enqueue(key, entry);
+    }
+
+    /**
+     * Removes a key from the cache. A load of that key that is in-flight will not be cached.
+     *
+     * @param key the key.
+     * @return the value previously cached, null if there was none.
+     */
+    public V invalidate(K key) {
+        var entry = entries.remove(key);
+        return entry == null || entry.isLoading() || entry.isFailed() ? null : entry.value();
+    }
+
+    /**
+     * Removes all the entries whose value satisfies the given predicate.
+     *
+     * @param predicate the predicate.
+     * @return true if any entry was removed.
+     */
+    public boolean invalidateIf(Predicate<V> predicate) {
+        return entries.values().removeIf(entry -> !entry.isLoading() && !entry.isFailed() && predicate.test(entry.value()));
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries, including the ones that are expired but not evicted yet and the ones being loaded.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private V load(K key, Entry<V> loading, Function<K, V> loader, ToLongFunction<V> validityFunction) {
+        misses.increment();
+        V value;
+        long validity;
+        try {
+            value = loader.apply(key);
+            validity = value == null ? 0 : validityFunction.applyAsLong(value);
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, loading);
+            loading.fail(e);
+            throw e;
+        }
+
+        if (validity > 0) {
+            loading.complete(value, expiration(validity));
+            enqueue(key, loading);
+        } else {
+            entries.remove(key, loading);
+            loading.complete(value, 0);
+        }
+        return value;
+    }
+
+    private V await(Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private long expiration(long validity) {
+        var now = clock.millis();
+        return validity >= NO_EXPIRATION - now ? NO_EXPIRATION : now + validity;
+    }
+
+    private void enqueue(K key, Entry<V> entry) {
+        evictionQueue.add(new Node<>(key, entry));
+        queuedNodes.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    /**
+     * Evicts entries until the size is back within the maximum. The eviction queue is also compacted when it holds
+     * too many nodes of entries that were replaced or removed in the meantime.
+     */
+    private void evictIfNeeded() {
+        if (!needsEviction()) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            var now = clock.millis();
+            Node<K, V> node;
+            while (needsEviction() && (node = evictionQueue.poll()) != null) {
+                queuedNodes.decrementAndGet();
+                var entry = node.entry();
+                if (entries.get(node.key()) != entry) {
+                    continue;
+                }
+                if (entry.isExpired(now) || (entries.size() > maximumSize && !entry.clearAccessed())) {
+                    if (entries.remove(node.key(), entry)) {
+                        evictions.increment();
+                    }
+                } else {
+                    evictionQueue.add(node);
+                    queuedNodes.incrementAndGet();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean needsEviction() {
+        return entries.size() > maximumSize || queuedNodes.get() > 2 * maximumSize;
+    }
+
+    private record Node<K, V>(K key, Entry<V> entry) {
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+        private volatile boolean accessed;
+
+        boolean isLoading() {
+            return !future.isDone();
+        }
+
+        boolean isFailed() {
+            return future.isCompletedExceptionally();
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+
+        V value() {
+            return future.getNow(null);
+        }
+
+        void touch() {
+            accessed = true;
+        }
+
+        /**
+         * Clears the access flag, returns whether the entry was accessed since the flag was last cleared.
+         */
+        boolean clearAccessed() {
+            var wasAccessed = accessed;
+            accessed = false;
+            return wasAccessed;
+        }
+
+        void complete(V value, long expiresAt) {
+            this.expiresAt = expiresAt;
+            future.complete(value);
+        }
+
+        void fail(Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+}
@@ -27,7 +27,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
+ * @deprecated every access reorders the entries, so all the lookups are serialized. Use {@link ConcurrentCache} instead.
  */
+@Deprecated(since = "0.12.0")
 public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final int capacity;
@@ -74,11 +76,12 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        // in access order mode get() moves the entry to the end of the list, so it needs the write lock
+        lock.writeLock().lock();
         try {
             return super.get(key);
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
         }
     }
 
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncUtilsTest {
+
+    @Test
+    void applyConcurrently_shouldReturnResultsInOrder() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var result = AsyncUtils.applyConcurrently(List.of(30, 0, 20, 10), i -> {
+                sleep(i);
+                return "item-" + i;
+            }, executor);
+
+            assertThat(result).containsExactly("item-30", "item-0", "item-20", "item-10");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void applyConcurrently_shouldRunConcurrently() {
+        var latch = new CountDownLatch(3);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var result = AsyncUtils.applyConcurrently(List.of("a", "b", "c"), item -> {
+                latch.countDown();
+                return await(latch);
+            }, executor);
+
+            assertThat(result).containsExactly(true, true, true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void applyConcurrently_shouldRunOnCallingThread_whenExecutorRejects() {
+        var result = AsyncUtils.applyConcurrently(List.of("a", "b"), String::toUpperCase, command -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThat(result).containsExactly("A", "B");
+    }
+
+    @Test
+    void applyConcurrently_shouldRethrowExceptionOfFirstItem() {
+        assertThatThrownBy(() -> AsyncUtils.applyConcurrently(List.of("a", "b", "c"), item -> {
+            if (!item.equals("a")) {
+                throw new IllegalArgumentException(item);
+            }
+            return item;
+        }, Runnable::run)).isInstanceOf(IllegalArgumentException.class).hasMessage("b");
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentCacheTest {
+
+    private static final long VALIDITY = 1000;
+    private final Clock clock = mock();
+    private final Function<String, String> loader = mock();
+    private final ConcurrentCache<String, String> cache = new ConcurrentCache<>(2, VALIDITY, clock);
+
+    @Test
+    void get_shouldLoadOnce_whenValid() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenAnswer(i -> i.getArgument(0) + "-value");
+
+        assertThat(cache.get("foo", loader)).isEqualTo("foo-value");
+        assertThat(cache.get("foo", loader)).isEqualTo("foo-value");
+
+        verify(loader, times(1)).apply("foo");
+        assertThat(cache.stats()).isEqualTo(new CacheStats(1, 1, 0));
+    }
+
+    @Test
+    void get_shouldLoadAgain_whenExpired() {
+        when(clock.millis()).thenReturn(0L, VALIDITY + 1);
+        when(loader.apply(anyString())).thenReturn("value");
+
+        cache.get("foo", loader);
+        cache.get("foo", loader);
+
+        verify(loader, times(2)).apply("foo");
+    }
+
+    @Test
+    void get_shouldNotCache_whenValidityIsNotPositive() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenReturn("value");
+
+        assertThat(cache.get("foo", loader, v -> 0)).isEqualTo("value");
+        assertThat(cache.get("foo", loader, v -> 0)).isEqualTo("value");
+
+        verify(loader, times(2)).apply("foo");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldNotCache_whenLoaderReturnsNull() {
+        when(clock.millis()).thenReturn(0L);
+
+        assertThat(cache.get("foo", loader)).isNull();
+        assertThat(cache.get("foo", loader)).isNull();
+
+        verify(loader, times(2)).apply("foo");
+    }
+
+    @Test
+    void get_shouldNotCache_whenLoaderThrows() {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply(anyString())).thenThrow(new IllegalStateException("error")).thenReturn("value");
+
+        assertThatThrownBy(() -> cache.get("foo", loader)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("foo", loader)).isEqualTo("value");
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenConcurrentLookupsOfSameKey() throws Exception {
+        when(clock.millis()).thenReturn(0L);
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Function<String, String> slowLoader = key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        };
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var first = executor.submit(() -> cache.get("foo", slowLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            var others = IntStream.range(0, 3).mapToObj(i -> executor.submit(() -> cache.get("foo", slowLoader))).toList();
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            for (Future<String> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_shouldNotBlockOtherKeys_whenLoading() throws Exception {
+        when(clock.millis()).thenReturn(0L);
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var slow = executor.submit(() -> cache.get("slow", key -> {
+                loading.countDown();
+                await(release);
+                return "slow-value";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(cache.get("fast", key -> "fast-value")).isEqualTo("fast-value");
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow-value");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenMaximumSizeExceeded() {
+        when(clock.millis()).thenReturn(0L);
+
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.getIfPresent("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("foo")).isEqualTo("foo");
+        assertThat(cache.getIfPresent("baz")).isEqualTo("baz");
+        assertThat(cache.getIfPresent("bar")).isNull();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldEvictExpiredFirst_whenMaximumSizeExceeded() {
+        when(clock.millis()).thenReturn(0L, 0L, 0L, 0L, 600L);
+
+        cache.put("foo", "foo", 500);
+        cache.put("bar", "bar");
+        cache.getIfPresent("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.getIfPresent("bar")).isEqualTo("bar");
+        assertThat(cache.getIfPresent("baz")).isEqualTo("baz");
+    }
+
+    @Test
+    void put_shouldKeepMaximumSize_whenConcurrentInsertions() throws Exception {
+        when(clock.millis()).thenReturn(0L);
+        var bounded = new ConcurrentCache<String, String>(100, VALIDITY, clock);
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            var insertions = IntStream.range(0, 8)
+                    .mapToObj(thread -> executor.submit(() -> IntStream.range(0, 1000)
+                            .mapToObj(i -> thread + "-" + i)
+                            .forEach(key -> bounded.put(key, key))))
+                    .toList();
+            for (var insertion : insertions) {
+                insertion.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(bounded.size()).isEqualTo(100);
+        assertThat(bounded.stats().evictionCount()).isEqualTo(7900);
+    }
+
+    @Test
+    void getIfPresent_shouldReturnNull_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 0L, VALIDITY + 1);
+
+        cache.put("foo", "foo");
+
+        assertThat(cache.getIfPresent("foo")).isEqualTo("foo");
+        assertThat(cache.getIfPresent("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidate() {
+        when(clock.millis()).thenReturn(0L);
+        cache.put("foo", "foo");
+
+        assertThat(cache.invalidate("foo")).isEqualTo("foo");
+        assertThat(cache.invalidate("foo")).isNull();
+        assertThat(cache.getIfPresent("foo")).isNull();
+    }
+
+    @Test
+    void invalidateIf() {
+        when(clock.millis()).thenReturn(0L);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        var removed = cache.invalidateIf("foo"::equals);
+
+        assertThat(removed).isTrue();
+        assertThat(cache.getIfPresent("foo")).isNull();
+        assertThat(cache.getIfPresent("bar")).isEqualTo("bar");
+    }
+
+    @Test
+    void shouldAlwaysLoad_whenMaximumSizeIsZero() {
+        var disabled = new ConcurrentCache<String, String>(0);
+        when(loader.apply(anyString())).thenReturn("value");
+
+        disabled.put("foo", "foo");
+        disabled.get("foo", loader);
+        disabled.get("foo", loader);
+
+        verify(loader, times(2)).apply("foo");
+        assertThat(disabled.size()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
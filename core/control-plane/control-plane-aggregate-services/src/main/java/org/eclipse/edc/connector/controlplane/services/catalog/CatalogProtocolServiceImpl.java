@@ -53,8 +53,8 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     @Override
     @NotNull
     public ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new, message)
-                .map(agent -> {
+        return protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new, message)
+                .map(agent -> transactionContext.execute(() -> {
                     try (var datasets = datasetResolver.query(agent, message.getQuerySpec(), message.getProtocol())) {
                         var dataServices = dataServiceRegistry.getDataServices(message.getProtocol());
 
@@ -64,21 +64,20 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                                 .participantId(participantId)
                                 .build();
                     }
-                })
-        );
+                }));
     }
 
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation, String protocol) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new)
-                .map(agent -> datasetResolver.getById(agent, datasetId, protocol))
+        return protocolTokenValidator.verify(tokenRepresentation, RequestCatalogPolicyContext::new)
+                .map(agent -> transactionContext.execute(() -> datasetResolver.getById(agent, datasetId, protocol)))
                 .compose(dataset -> {
                     if (dataset == null) {
                         return ServiceResult.notFound(format("Dataset %s does not exist", datasetId));
                     }
 
                     return ServiceResult.success(dataset);
-                }));
+                });
     }
 
 }
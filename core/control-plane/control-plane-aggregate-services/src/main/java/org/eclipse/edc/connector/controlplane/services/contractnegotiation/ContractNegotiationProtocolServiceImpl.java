@@ -82,34 +82,33 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(message)
+        return transactionContext.execute(() -> fetchValidatableOffer(message))
                 .compose(validatableOffer -> verifyRequest(tokenRepresentation, validatableOffer.getContractPolicy(), message)
-                        .compose(agent -> validateOffer(agent, validatableOffer))
-                        .compose(validatedOffer -> {
-                            var result = message.getProviderPid() == null
-                                    ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
-                                    : getAndLeaseNegotiation(message.getProviderPid());
-
-                            return result.onSuccess(negotiation -> {
-                                if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
-                                    return;
-                                }
-                                negotiation.protocolMessageReceived(message.getId());
-                                negotiation.addContractOffer(validatedOffer.getOffer());
-                                negotiation.transitionRequested();
-                                update(negotiation);
-                                observable.invokeForEach(l -> l.requested(negotiation));
-                            });
-                        })
-                ));
+                        .compose(agent -> validateOffer(agent, validatableOffer)))
+                .compose(validatedOffer -> transactionContext.execute(() -> {
+                    var result = message.getProviderPid() == null
+                            ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
+                            : getAndLeaseNegotiation(message.getProviderPid());
+
+                    return result.onSuccess(negotiation -> {
+                        if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
+                            return;
+                        }
+                        negotiation.protocolMessageReceived(message.getId());
+                        negotiation.addContractOffer(validatedOffer.getOffer());
+                        negotiation.transitionRequested();
+                        update(negotiation);
+                        observable.invokeForEach(l -> l.requested(negotiation));
+                    });
+                }));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
-                .compose(agent -> {
+        return verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
+                .compose(agent -> transactionContext.execute(() -> {
                     ServiceResult<ContractNegotiation> result = message.getConsumerPid() == null
                             ? createNegotiation(message, agent.getIdentity(), CONSUMER, message.getCallbackAddress())
                             : getAndLeaseNegotiation(message.getConsumerPid())
@@ -132,10 +131,9 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
+                .compose(contractNegotiation -> verifyNegotiationRequest(tokenRepresentation, contractNegotiation, message))
+                .compose(verified -> onMessageDo(message, verified, contractNegotiation -> acceptedAction(message, contractNegotiation)));
 
     }
 
@@ -143,62 +141,70 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateAgreed(message, agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
+                .compose(verified -> onMessageDo(message, verified, contractNegotiation -> agreedAction(message, contractNegotiation)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
+                .compose(contractNegotiation -> verifyNegotiationRequest(tokenRepresentation, contractNegotiation, message))
+                .compose(verified -> onMessageDo(message, verified, contractNegotiation -> verifiedAction(message, contractNegotiation)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
+                .compose(contractNegotiation -> verifyNegotiationRequest(tokenRepresentation, contractNegotiation, message))
+                .compose(verified -> onMessageDo(message, verified, contractNegotiation -> finalizedAction(message, contractNegotiation)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
-                .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
-                        .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
+                .compose(contractNegotiation -> verifyNegotiationRequest(tokenRepresentation, contractNegotiation, message))
+                .compose(verified -> onMessageDo(message, verified, contractNegotiation -> terminatedAction(message, contractNegotiation)));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> findById(String id, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(id)
+        return transactionContext.execute(() -> getNegotiation(id))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), null)
                         .compose(agent -> validateRequest(agent, contractNegotiation)
-                                .map(it -> contractNegotiation))));
+                                .map(it -> contractNegotiation)));
     }
 
+    /**
+     * Leases the negotiation and applies the action on it in a new transaction. The request has been verified against the negotiation read
+     * before the lease, if its state changed in between the request is rejected as a conflict instead of being applied
+     * to a state it was not verified for.
+     */
     @NotNull
-    private ServiceResult<ContractNegotiation> onMessageDo(ContractRemoteMessage message, Function<ContractNegotiation, ServiceResult<ContractNegotiation>> action) {
-        return getAndLeaseNegotiation(message.getProcessId())
+    private ServiceResult<ContractNegotiation> onMessageDo(ContractRemoteMessage message, ContractNegotiation verified,
+                                                           Function<ContractNegotiation, ServiceResult<ContractNegotiation>> action) {
+        return transactionContext.execute(() -> getAndLeaseNegotiation(message.getProcessId())
                 .compose(contractNegotiation -> {
                     if (contractNegotiation.shouldIgnoreIncomingMessage(message.getId())) {
                         return ServiceResult.success(contractNegotiation);
+                    } else if (contractNegotiation.getState() != verified.getState()) {
+                        breakLease(contractNegotiation);
+                        return ServiceResult.conflict("Cannot process %s because negotiation %s changed state from %s to %s"
+                                .formatted(message.getClass().getSimpleName(), contractNegotiation.getId(),
+                                        verified.stateAsString(), contractNegotiation.stateAsString()));
                     } else {
                         return action.apply(contractNegotiation);
                     }
-                });
+                }));
     }
 
     @NotNull
@@ -314,6 +320,12 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                 .flatMap(ServiceResult::from);
     }
 
+    private ServiceResult<ContractNegotiation> verifyNegotiationRequest(TokenRepresentation tokenRepresentation, ContractNegotiation negotiation, RemoteMessage message) {
+        return verifyRequest(tokenRepresentation, negotiation.getLastContractOffer().getPolicy(), message)
+                .compose(agent -> validateRequest(agent, negotiation))
+                .map(it -> negotiation);
+    }
+
     private ServiceResult<ParticipantAgent> verifyRequest(TokenRepresentation tokenRepresentation, Policy policy, RemoteMessage message) {
         return protocolTokenValidator.verify(tokenRepresentation, RequestContractNegotiationPolicyContext::new, policy, message)
                 .onFailure(failure -> monitor.debug(() -> "Verification Failed: %s".formatted(failure.getFailureDetail())));
@@ -325,6 +337,10 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                 .orElseGet(() -> ServiceResult.notFound("No negotiation with id %s found".formatted(negotiationId)));
     }
 
+    private void breakLease(ContractNegotiation negotiation) {
+        store.save(negotiation);
+    }
+
     private void update(ContractNegotiation negotiation) {
         store.save(negotiation);
         monitor.debug(() -> "[%s] ContractNegotiation %s is now in state %s."
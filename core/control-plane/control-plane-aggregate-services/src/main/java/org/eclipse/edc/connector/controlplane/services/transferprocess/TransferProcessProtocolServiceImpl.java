@@ -89,58 +89,54 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyRequested(TransferRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchNotifyRequestContext(message)
+        return transactionContext.execute(() -> fetchNotifyRequestContext(message))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
                 .compose(context -> validateDestination(message, context))
                 .compose(context -> validateAgreement(message, context))
-                .compose(context -> requestedAction(message, context.agreement().getAssetId())));
+                .compose(context -> transactionContext.execute(() -> requestedAction(message, context.agreement().getAssetId())));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyStarted(TransferStartMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> startedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> startedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyCompleted(TransferCompletionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> completedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> completedAction(message, transferProcess))));
     }
 
     @Override
     public @NotNull ServiceResult<TransferProcess> notifySuspended(TransferSuspensionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> suspendedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> suspendedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyTerminated(TransferTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> terminatedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> terminatedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> findById(String id, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(id, this::findTransferProcessById)
+        return transactionContext.execute(() -> fetchRequestContext(id, this::findTransferProcessById))
                 .compose(context -> verifyRequest(tokenRepresentation, context, null))
-                .compose(context -> validateCounterParty(context.participantAgent(), context.agreement(), context.transferProcess())));
+                .compose(context -> validateCounterParty(context.participantAgent(), context.agreement(), context.transferProcess()));
     }
 
     @NotNull
@@ -59,6 +59,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,12 +72,14 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiat
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.OFFERED;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATING;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.VERIFIED;
 import static org.eclipse.edc.connector.controlplane.services.contractnegotiation.ContractNegotiationProtocolServiceImplTest.TestFunctions.contractOffer;
 import static org.eclipse.edc.connector.controlplane.services.contractnegotiation.ContractNegotiationProtocolServiceImplTest.TestFunctions.createPolicy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.participant.spi.ParticipantAgent.PARTICIPANT_IDENTITY;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,6 +89,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -803,4 +807,76 @@ class ContractNegotiationProtocolServiceImplTest {
             verifyNoInteractions(listener);
         }
     }
+
+    @Nested
+    class TransactionBoundaries {
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldVerifyRequestOutsideOfTransaction(MethodCall<M> methodCall, M message,
+                                                                                             ContractNegotiation.Type type,
+                                                                                             ContractNegotiationStates currentState) {
+            var offer = contractOffer();
+            var negotiation = contractNegotiationBuilder().state(currentState.code()).type(type).contractOffer(offer).build();
+            var validatableOffer = mock(ValidatableConsumerOffer.class);
+            var inTransaction = new AtomicBoolean();
+            var verifiedInTransaction = new AtomicBoolean();
+
+            doAnswer(invocation -> {
+                inTransaction.set(true);
+                try {
+                    return invocation.callRealMethod();
+                } finally {
+                    inTransaction.set(false);
+                }
+            }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+            when(validatableOffer.getContractPolicy()).thenReturn(createPolicy());
+            when(consumerOfferResolver.resolveOffer(any())).thenReturn(ServiceResult.success(validatableOffer));
+            when(protocolTokenValidator.verify(any(), any(), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(inTransaction.get());
+                return ServiceResult.success(participantAgent());
+            });
+            when(store.findById(any())).thenReturn(negotiation);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(negotiation));
+            when(validationService.validateRequest(any(ParticipantAgent.class), any(ContractNegotiation.class))).thenReturn(Result.success());
+            when(validationService.validateInitialOffer(any(ParticipantAgent.class), isA(ValidatableConsumerOffer.class)))
+                    .thenAnswer(i -> Result.success(new ValidatedConsumerOffer("any", offer)));
+            when(validationService.validateConfirmed(any(ParticipantAgent.class), any(), any())).thenAnswer(i -> Result.success(negotiation));
+
+            var result = methodCall.call(service, message, tokenRepresentation());
+
+            assertThat(result).isSucceeded();
+            verify(protocolTokenValidator).verify(any(), any(), any(), eq(message));
+            assertThat(verifiedInTransaction).isFalse();
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldReturnConflict_whenStateChangedDuringVerification(MethodCall<M> methodCall, M message,
+                                                                                                            ContractNegotiation.Type type,
+                                                                                                            ContractNegotiationStates currentState) {
+            var offer = contractOffer();
+            var negotiation = contractNegotiationBuilder().id("processId").state(currentState.code()).type(type).contractOffer(offer).build();
+            var changed = contractNegotiationBuilder().id("processId").state(TERMINATING.code()).type(type).contractOffer(offer).build();
+
+            when(protocolTokenValidator.verify(any(), any(), any(), eq(message)))
+                    .thenReturn(ServiceResult.success(participantAgent()));
+            when(store.findById(any())).thenReturn(negotiation);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(changed));
+            when(validationService.validateRequest(any(ParticipantAgent.class), any(ContractNegotiation.class))).thenReturn(Result.success());
+            when(validationService.validateConfirmed(any(ParticipantAgent.class), any(), any())).thenAnswer(i -> Result.success(negotiation));
+
+            // requested and offered messages don't read the negotiation before the verification
+            if (!(message instanceof ContractRequestMessage) && !(message instanceof ContractOfferMessage)) {
+                var result = methodCall.call(service, message, tokenRepresentation());
+
+                assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+                var captor = ArgumentCaptor.forClass(ContractNegotiation.class);
+                verify(store).save(captor.capture());
+                assertThat(captor.getValue().getState()).isEqualTo(TERMINATING.code());
+                assertThat(captor.getValue().getProtocolMessages().isAlreadyReceived(message.getId())).isFalse();
+                verifyNoInteractions(listener);
+            }
+        }
+    }
 }
@@ -58,6 +58,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
@@ -86,6 +87,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -754,6 +756,65 @@ class TransferProcessProtocolServiceImplTest {
         }
     }
 
+    @Nested
+    class TransactionBoundaries {
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldVerifyRequestOutsideOfTransaction(MethodCall<M> methodCall, M message,
+                                                                                             TransferProcess.Type type,
+                                                                                             TransferProcessStates currentState) {
+            var transferProcess = transferProcessBuilder().state(currentState.code()).type(type).build();
+            var inTransaction = new AtomicBoolean();
+            var verifiedInTransaction = new AtomicBoolean();
+            doAnswer(invocation -> {
+                inTransaction.set(true);
+                try {
+                    return invocation.callRealMethod();
+                } finally {
+                    inTransaction.set(false);
+                }
+            }).when(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+            when(protocolTokenValidator.verify(any(), any(), any(), eq(message))).thenAnswer(i -> {
+                verifiedInTransaction.set(inTransaction.get());
+                return ServiceResult.success(participantAgent());
+            });
+            when(store.findById(any())).thenReturn(transferProcess);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(transferProcess));
+            when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+            when(validationService.validateRequest(any(ParticipantAgent.class), isA(ContractAgreement.class))).thenReturn(Result.success());
+
+            var result = methodCall.call(service, message, tokenRepresentation());
+
+            assertThat(result).isSucceeded();
+            verify(protocolTokenValidator).verify(any(), any(), any(), eq(message));
+            assertThat(verifiedInTransaction).isFalse();
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(NotifyArguments.class)
+        <M extends ProcessRemoteMessage> void notify_shouldReturnConflict_whenStateChangedDuringVerification(MethodCall<M> methodCall, M message,
+                                                                                                            TransferProcess.Type type,
+                                                                                                            TransferProcessStates currentState) {
+            var transferProcess = transferProcessBuilder().id("correlationId").state(currentState.code()).type(type).build();
+            var changed = transferProcessBuilder().id("correlationId").state(DEPROVISIONING.code()).type(type).build();
+            when(protocolTokenValidator.verify(any(), any(), any(), eq(message))).thenReturn(ServiceResult.success(participantAgent()));
+            when(store.findById(any())).thenReturn(transferProcess);
+            when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(changed));
+            when(negotiationStore.findContractAgreement(any())).thenReturn(contractAgreement());
+            when(validationService.validateRequest(any(ParticipantAgent.class), isA(ContractAgreement.class))).thenReturn(Result.success());
+
+            var result = methodCall.call(service, message, tokenRepresentation());
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+            var captor = ArgumentCaptor.forClass(TransferProcess.class);
+            verify(store).save(captor.capture());
+            assertThat(captor.getValue().getState()).isEqualTo(DEPROVISIONING.code());
+            assertThat(captor.getValue().getProtocolMessages().isAlreadyReceived(message.getId())).isFalse();
+            verifyNoInteractions(listener);
+        }
+    }
+
     @Test
     void findById_shouldReturnTransferProcess_whenValidCounterParty() {
         var participantAgent = participantAgent();
@@ -41,8 +41,6 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-
 public class DatasetResolverImpl implements DatasetResolver {
 
     private final ContractDefinitionResolver contractDefinitionResolver;
@@ -70,12 +68,24 @@ public class DatasetResolverImpl implements DatasetResolver {
             return Stream.empty();
         }
 
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset, resolved.policies(), protocol))
-                .filter(Dataset::hasOffers)
-                .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+        var policies = resolved.policies();
+        var offeringDefinitions = contractDefinitions.stream()
+                .filter(definition -> resolveContractPolicy(definition, policies) != null)
+                .toList();
+        if (offeringDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var assetsQuery = QuerySpec.Builder.newInstance()
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .filter(querySpec.getFilterExpression())
+                .build();
+        var selectors = offeringDefinitions.stream().map(ContractDefinition::getAssetsSelector).toList();
+
+        return assetIndex.queryAssets(assetsQuery, selectors)
+                .map(asset -> toDataset(offeringDefinitions, asset, policies, protocol))
+                .filter(Dataset::hasOffers);
     }
 
     @Override
@@ -121,11 +131,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .test(asset)
                 )
                 .forEach(contractDefinition -> {
-                    var policy = policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
-                            Optional.ofNullable(policyDefinitionStore.findById(policyId))
-                                    .map(PolicyDefinition::getPolicy)
-                                    .orElse(null)
-                    );
+                    var policy = resolveContractPolicy(contractDefinition, policies);
 
                     if (policy != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
@@ -137,4 +143,12 @@ public class DatasetResolverImpl implements DatasetResolver {
         return datasetBuilder.build();
     }
 
+    private Policy resolveContractPolicy(ContractDefinition contractDefinition, Map<String, Policy> policies) {
+        return policies.computeIfAbsent(contractDefinition.getContractPolicyId(), policyId ->
+                Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                        .map(PolicyDefinition::getPolicy)
+                        .orElse(null)
+        );
+    }
+
 }
@@ -58,7 +58,9 @@ import static org.eclipse.edc.policy.model.PolicyType.OFFER;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -99,6 +101,10 @@ class DatasetResolverImplTest {
         return DataService.Builder.newInstance().build();
     }
 
+    private Stream<Asset> paginate(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     @NotNull
     private ThrowingExtractor<Dataset, Object, RuntimeException> getId() {
         return it -> it.getProperty(Asset.PROPERTY_ID);
@@ -113,7 +119,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var distribution = Distribution.Builder.newInstance().dataService(dataService).format("format").build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             when(distributionResolver.getDistributions(any(), isA(Asset.class))).thenReturn(List.of(distribution));
 
@@ -139,18 +145,20 @@ class DatasetResolverImplTest {
 
             assertThat(datasets).isNotNull().isEmpty();
             verify(assetIndex, never()).queryAssets(any());
+            verify(assetIndex, never()).queryAssets(any(), anyList());
         }
 
         @Test
         void shouldReturnNoDataset_whenPolicyNotFound() {
             var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("id").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(null);
 
             var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
 
             assertThat(datasets).isNotNull().isEmpty();
+            verify(assetIndex, never()).queryAssets(any(), anyList());
         }
 
         @Test
@@ -161,7 +169,7 @@ class DatasetResolverImplTest {
                     contractDefinitionBuilder("definition1").contractPolicyId("policy1").build(),
                     contractDefinitionBuilder("definition2").contractPolicyId("policy2").build()
             )));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> Stream.of(createAsset("assetId").build()));
             when(policyStore.findById("policy1")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy1).build());
             when(policyStore.findById("policy2")).thenReturn(PolicyDefinition.Builder.newInstance().policy(policy2).build());
 
@@ -189,7 +197,7 @@ class DatasetResolverImplTest {
                     .contractPolicyId("contractPolicyId")
                     .build();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("id").property("key", "value").build()));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
             var additionalCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
             var querySpec = QuerySpec.Builder.newInstance().filter(additionalCriterion).build();
@@ -199,7 +207,7 @@ class DatasetResolverImplTest {
             verify(assetIndex).queryAssets(and(
                     isA(QuerySpec.class),
                     argThat(q -> q.getFilterExpression().contains(additionalCriterion))
-            ));
+            ), eq(List.of(List.of(definitionCriterion))));
         }
 
         @Test
@@ -208,7 +216,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> paginate(assets, i.getArgument(0)));
             when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -223,7 +231,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> paginate(assets, i.getArgument(0)));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -238,7 +246,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> paginate(assets, i.getArgument(0)));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -253,7 +261,7 @@ class DatasetResolverImplTest {
             var contractPolicy = Policy.Builder.newInstance().build();
             var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(contractDefinitions));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenAnswer(i -> paginate(assets, i.getArgument(0)));
             when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
             var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -275,7 +283,7 @@ class DatasetResolverImplTest {
                     .format(HttpDataAddressSchema.HTTP_DATA_TYPE).build();
 
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition)));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId")
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId")
                     .property(Asset.PROPERTY_IS_CATALOG, true)
                     .dataAddress(DataAddress.Builder.newInstance().type(HttpDataAddressSchema.HTTP_DATA_TYPE).build())
                     .build()));
@@ -302,7 +310,7 @@ class DatasetResolverImplTest {
             var distribution = Distribution.Builder.newInstance().dataService(dataService).format("format").build();
             var cachedPolicies = new HashMap<>(Map.of("samePolicy", Policy.Builder.newInstance().build()));
             when(definitionResolver.resolveFor(any())).thenReturn(new ResolvedContractDefinitions(List.of(contractDefinition), cachedPolicies));
-            when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
+            when(assetIndex.queryAssets(isA(QuerySpec.class), anyList())).thenReturn(Stream.of(createAsset("assetId").property("key", "value").build()));
             when(distributionResolver.getDistributions(any(), isA(Asset.class))).thenReturn(List.of(distribution));
 
             var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none(), "protocol");
@@ -59,6 +59,7 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .executor(entityExecutor)
                 .build();
     }
 
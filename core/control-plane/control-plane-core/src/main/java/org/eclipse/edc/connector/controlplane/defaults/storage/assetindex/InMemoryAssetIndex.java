@@ -68,6 +68,26 @@ public class InMemoryAssetIndex implements AssetIndex {
         }
     }
 
+    @Override
+    public Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        lock.readLock().lock();
+        try {
+            var comparator = querySpec.getSortField() == null
+                    ? (Comparator<Asset>) (o1, o2) -> 0
+                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            var anySelector = selectors.stream()
+                    .map(this::toPredicate)
+                    .reduce(x -> false, Predicate::or);
+
+            return filterBy(querySpec.getFilterExpression())
+                    .filter(anySelector)
+                    .sorted(comparator)
+                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public Asset findById(String assetId) {
         lock.readLock().lock();
@@ -142,12 +162,14 @@ public class InMemoryAssetIndex implements AssetIndex {
     }
 
     private Stream<Asset> filterBy(List<Criterion> criteria) {
-        var predicate = criteria.stream()
-                .map(criterionOperatorRegistry::toPredicate)
-                .reduce(x -> true, Predicate::and);
-
         return cache.values().stream()
-                .filter(predicate);
+                .filter(toPredicate(criteria));
+    }
+
+    private Predicate<Asset> toPredicate(List<Criterion> criteria) {
+        return criteria.stream()
+                .map(criterionOperatorRegistry::<Asset>toPredicate)
+                .reduce(x -> true, Predicate::and);
     }
 
     private Asset delete(String assetId) {
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
+import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Verifies the default {@link AssetIndex#queryAssets(QuerySpec, List)} implementation, by running the test base against
+ * an index that doesn't override it.
+ */
+class DefaultSelectorsAssetIndexTest extends AssetIndexTestBase {
+
+    private AssetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        var registry = CriterionOperatorRegistryImpl.ofDefaults();
+        registry.registerPropertyLookup(new AssetPropertyLookup());
+        index = new DelegatingAssetIndex(new InMemoryAssetIndex(registry));
+    }
+
+    @Override
+    protected AssetIndex getAssetIndex() {
+        return index;
+    }
+
+    private record DelegatingAssetIndex(AssetIndex delegate) implements AssetIndex {
+
+        @Override
+        public Stream<Asset> queryAssets(QuerySpec querySpec) {
+            return delegate.queryAssets(querySpec);
+        }
+
+        @Override
+        public Asset findById(String assetId) {
+            return delegate.findById(assetId);
+        }
+
+        @Override
+        public StoreResult<Void> create(Asset asset) {
+            return delegate.create(asset);
+        }
+
+        @Override
+        public StoreResult<Asset> deleteById(String assetId) {
+            return delegate.deleteById(assetId);
+        }
+
+        @Override
+        public long countAssets(List<Criterion> criteria) {
+            return delegate.countAssets(criteria);
+        }
+
+        @Override
+        public StoreResult<Asset> updateAsset(Asset asset) {
+            return delegate.updateAsset(asset);
+        }
+
+        @Override
+        public DataAddress resolveForAsset(String assetId) {
+            return delegate.resolveForAsset(assetId);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.edc.connector.controlplane.transfer.provision.DeprovisionResp
 import org.eclipse.edc.connector.controlplane.transfer.provision.ProvisionResponsesHandler;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessObservable;
 import org.eclipse.edc.connector.controlplane.transfer.spi.provision.ProvisionManager;
@@ -49,6 +50,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.WakeupEventSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
@@ -56,7 +58,9 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ENTITY_PARALLELISM;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_PROCESSOR_PARALLELISM;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -75,6 +79,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(description = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, key = "edc.transfer.state-machine.batch-size", defaultValue = DEFAULT_BATCH_SIZE + "")
     private int stateMachineBatchSize;
 
+    @Setting(description = "the maximum number of processors that run concurrently in the transfer process state machine. Default value " + DEFAULT_PROCESSOR_PARALLELISM, key = "edc.transfer.state-machine.processor-parallelism", defaultValue = DEFAULT_PROCESSOR_PARALLELISM + "")
+    private int stateMachineProcessorParallelism;
+
+    @Setting(description = "the maximum number of transfer processes of a batch that are processed concurrently in the transfer process state machine. Default value " + DEFAULT_ENTITY_PARALLELISM, key = "edc.transfer.state-machine.entity-parallelism", defaultValue = DEFAULT_ENTITY_PARALLELISM + "")
+    private int stateMachineEntityParallelism;
+
     @Setting(description = "how many times a specific operation must be tried before terminating the transfer with error", key = "edc.transfer.send.retry.limit", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private int sendRetryLimit;
 
@@ -173,6 +183,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(stateMachineBatchSize)
+                .processorParallelism(stateMachineProcessorParallelism)
+                .entityParallelism(stateMachineEntityParallelism)
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhookRegistry(protocolWebhookRegistry)
@@ -182,6 +194,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
+        eventRouter.register(TransferProcessEvent.class, new WakeupEventSubscriber(processManager));
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
         registry.register(new DeprovisionCompleteCommandHandler(transferProcessStore, deprovisionResponsesHandler));
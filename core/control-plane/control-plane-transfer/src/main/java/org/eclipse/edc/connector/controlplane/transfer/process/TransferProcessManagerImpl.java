@@ -583,6 +583,7 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .executor(entityExecutor)
                 .build();
     }
 
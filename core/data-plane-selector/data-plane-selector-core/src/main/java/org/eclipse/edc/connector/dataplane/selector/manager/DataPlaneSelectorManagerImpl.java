@@ -75,6 +75,7 @@ public class DataPlaneSelectorManagerImpl extends AbstractStateEntityManager<Dat
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .executor(entityExecutor)
                 .build();
     }
 
@@ -105,7 +105,10 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             case PUSH -> handlePush(startMessage, dataFlowBuilder);
         };
 
-        return response.onSuccess(m -> update(dataFlowBuilder.build()));
+        return response.onSuccess(m -> {
+            update(dataFlowBuilder.build());
+            wakeup();
+        });
     }
 
     @Override
@@ -153,24 +156,29 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
-        Supplier<Criterion> ownedByThisRuntime = () -> new Criterion("runtimeId", "=", runtimeId);
         Supplier<Criterion> ownedByAnotherRuntime = () -> new Criterion("runtimeId", "!=", runtimeId);
-        Supplier<Criterion> flowLeaseNeedsToBeUpdated = () -> new Criterion("updatedAt", "<", clock.millis() - flowLeaseConfiguration.time());
         Supplier<Criterion> danglingTransfer = () -> new Criterion("updatedAt", "<", clock.millis() - flowLeaseConfiguration.abandonTime());
 
         return builder
-                .processor(processDataFlowInState(STARTED, this::updateFlowLease, ownedByThisRuntime, flowLeaseNeedsToBeUpdated))
+                .processor(this::renewFlowLeases)
                 .processor(processDataFlowInState(STARTED, this::restartFlow, ownedByAnotherRuntime, danglingTransfer))
                 .processor(processDataFlowInState(RECEIVED, this::processReceived))
                 .processor(processDataFlowInState(COMPLETED, this::processCompleted))
                 .processor(processDataFlowInState(FAILED, this::processFailed));
     }
 
-    private boolean updateFlowLease(DataFlow dataFlow) {
-        dataFlow.transitToReceived();
-        dataFlow.transitionToStarted(runtimeId);
-        store.save(dataFlow);
-        return true;
+    /**
+     * Renews the flow lease of all the started data flows owned by this runtime with a single store operation.
+     *
+     * @return the number of renewed data flows.
+     */
+    private Long renewFlowLeases() {
+        var result = store.renewFlowLeases(runtimeId, clock.millis() - flowLeaseConfiguration.time());
+        if (result.failed()) {
+            monitor.warning("Cannot renew flow leases of runtime %s: %s".formatted(runtimeId, result.getFailureDetail()));
+            return 0L;
+        }
+        return result.getContent().longValue();
     }
 
     private boolean restartFlow(DataFlow dataFlow) {
@@ -319,6 +327,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         return ProcessorImpl.Builder.newInstance(entitiesSupplier)
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .executor(entityExecutor)
                 .build();
     }
 
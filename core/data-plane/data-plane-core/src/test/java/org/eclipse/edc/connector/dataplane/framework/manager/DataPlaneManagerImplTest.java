@@ -65,6 +65,7 @@ import static org.eclipse.edc.spi.result.StoreFailure.Reason.GENERAL_ERROR;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeast;
@@ -92,6 +93,7 @@ class DataPlaneManagerImplTest {
     @BeforeEach
     public void setUp() {
         when(registry.resolveTransferService(request)).thenReturn(transferService);
+        when(store.renewFlowLeases(any(), anyLong())).thenReturn(StoreResult.success(0));
         manager = DataPlaneManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .transferServiceRegistry(registry)
@@ -606,20 +608,13 @@ class DataPlaneManagerImplTest {
     class UpdateFlowLease {
 
         @Test
-        void shouldUpdateFlow_whenFlowStartedAfterFlowLease() {
-            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
-            when(store.nextNotLeased(anyInt(), startedFlowOwnedByThisRuntime()))
-                    .thenReturn(List.of(dataFlow)).thenReturn(emptyList());
-
+        void shouldRenewFlowLeasesOfThisRuntime_withSingleStoreOperation() {
             manager.start();
 
             await().untilAsserted(() -> {
-                var captor = ArgumentCaptor.forClass(DataFlow.class);
-                verify(store).save(captor.capture());
-                var storedDataFlow = captor.getValue();
-                assertThat(storedDataFlow.getState()).isEqualTo(STARTED.code());
-                assertThat(storedDataFlow.getRuntimeId()).isEqualTo(runtimeId);
-                assertThat(storedDataFlow.getStateCount()).isEqualTo(1);
+                verify(store, atLeastOnce()).renewFlowLeases(eq(runtimeId), anyLong());
+                verify(store, never()).nextNotLeased(anyInt(), startedFlowOwnedByThisRuntime());
+                verify(store, never()).save(any());
             });
         }
     }
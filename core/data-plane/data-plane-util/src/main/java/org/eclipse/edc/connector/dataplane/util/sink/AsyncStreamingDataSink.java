@@ -39,7 +39,8 @@ import static org.eclipse.edc.spi.response.StatusResult.failure;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Asynchronously streams data to a response client.
+ * Asynchronously streams data to a response client. Each part is acknowledged once its content has been written to the
+ * response output stream.
  */
 public class AsyncStreamingDataSink implements DataSink {
 
@@ -81,6 +82,7 @@ public class AsyncStreamingDataSink implements DataSink {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
             try {
                 part.openStream().transferTo(outputStream);
+                part.acknowledge();
             } catch (IOException e) {
                 throw new EdcException(e);
             }
@@ -25,21 +25,31 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in parallel.
+ * The parts are grouped in partitions, at most {@code maxInFlightPartitions} partitions are transferred at the same time:
+ * the next partition is pulled from the source only when the transfer of a previous one completes.
  */
 public abstract class ParallelSink implements DataSink {
+    public static final int DEFAULT_MAX_IN_FLIGHT_PARTITIONS = 10;
+
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxInFlightPartitions = DEFAULT_MAX_IN_FLIGHT_PARTITIONS;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -48,18 +58,7 @@ public abstract class ParallelSink implements DataSink {
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
         return supplyAsync(() -> source.openPartStream().orElseThrow(StreamException::new), executorService)
-                .thenCompose(parts -> {
-                    try (parts) {
-                        return PartitionIterator.streamOf(parts, partitionSize)
-                                .map(this::processPartsAsync)
-                                .collect(asyncAllOf())
-                                .thenApply(results -> results.stream()
-                                        .filter(StreamResult::failed)
-                                        .findFirst()
-                                        .map(r -> StreamResult.failure(r.getFailure()))
-                                        .orElseGet(this::complete));
-                    }
-                })
+                .thenCompose(this::processPartitions)
                 .exceptionally(throwable -> {
                     if (throwable instanceof StreamException streamException) {
                         return StreamResult.failure(streamException.failure);
@@ -69,6 +68,12 @@ public abstract class ParallelSink implements DataSink {
                 });
     }
 
+    private CompletableFuture<StreamResult<Object>> processPartitions(Stream<DataSource.Part> parts) {
+        var partitionsTransfer = new PartitionsTransfer(new PartitionIterator<>(parts.iterator(), partitionSize));
+        return partitionsTransfer.start()
+                .whenComplete((result, throwable) -> parts.close());
+    }
+
     @NotNull
     private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
         return supplyAsync(transfer(parts), executorService);
@@ -80,6 +85,18 @@ public abstract class ParallelSink implements DataSink {
 
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
 
+    /**
+     * Called after the parts of a partition were successfully transferred, acknowledges them to the source.
+     * <p>
+     * Implementations whose transfer completes asynchronously may override this method and acknowledge the parts once
+     * their transfer is actually completed.
+     *
+     * @param parts the transferred parts.
+     */
+    protected void acknowledge(List<DataSource.Part> parts) {
+        parts.forEach(DataSource.Part::acknowledge);
+    }
+
     /**
      * Called after all parallel parts are transferred, only if all parts were successfully transferred.
      * <p>
@@ -91,6 +108,111 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Transfers the partitions of a part stream keeping at most {@code maxInFlightPartitions} of them in flight.
+     * <p>
+     * Partitions are pulled by a single drain task at a time, so the iterator is never accessed concurrently and no
+     * lock is held while it blocks waiting for the next part. Every completed transfer requests a new pull, the in-flight
+     * counter tracks the running transfers plus the part stream itself, and the result is completed when it drops to 0.
+     */
+    private class PartitionsTransfer {
+        private final Iterator<List<DataSource.Part>> partitions;
+        private final CompletableFuture<StreamResult<Object>> result = new CompletableFuture<>();
+        private final AtomicInteger inFlight = new AtomicInteger(1);
+        private final AtomicInteger pendingPulls = new AtomicInteger();
+        private final AtomicBoolean exhausted = new AtomicBoolean();
+        private final AtomicReference<StreamResult<Object>> failure = new AtomicReference<>();
+        private final AtomicReference<Throwable> exception = new AtomicReference<>();
+
+        PartitionsTransfer(Iterator<List<DataSource.Part>> partitions) {
+            this.partitions = partitions;
+        }
+
+        CompletableFuture<StreamResult<Object>> start() {
+            for (var i = 0; i < maxInFlightPartitions; i++) {
+                requestPull();
+            }
+            return result;
+        }
+
+        private void requestPull() {
+            if (pendingPulls.getAndIncrement() == 0) {
+                try {
+                    executorService.execute(this::drainPulls);
+                } catch (RejectedExecutionException e) {
+                    exception.compareAndSet(null, e);
+                    sourceDone();
+                }
+            }
+        }
+
+        private void drainPulls() {
+            do {
+                pull();
+            } while (pendingPulls.decrementAndGet() > 0);
+        }
+
+        private void pull() {
+            if (exhausted.get()) {
+                return;
+            }
+            try {
+                if (failure.get() == null && exception.get() == null && partitions.hasNext()) {
+                    var partition = partitions.next();
+                    inFlight.incrementAndGet();
+                    try {
+                        processPartsAsync(partition).whenComplete((transferResult, throwable) -> onTransferred(partition, transferResult, throwable));
+                    } catch (RejectedExecutionException e) {
+                        onTransferred(partition, null, e);
+                    }
+                    return;
+                }
+            } catch (Throwable throwable) {
+                exception.compareAndSet(null, throwable);
+            }
+            sourceDone();
+        }
+
+        private void onTransferred(List<DataSource.Part> partition, StreamResult<Object> transferResult, Throwable throwable) {
+            if (throwable != null) {
+                exception.compareAndSet(null, throwable);
+            } else if (transferResult.failed()) {
+                failure.compareAndSet(null, StreamResult.failure(transferResult.getFailure()));
+            } else {
+                try {
+                    acknowledge(partition);
+                } catch (Throwable acknowledgeException) {
+                    exception.compareAndSet(null, acknowledgeException);
+                }
+            }
+            requestPull();
+            release();
+        }
+
+        private void sourceDone() {
+            if (exhausted.compareAndSet(false, true)) {
+                release();
+            }
+        }
+
+        private void release() {
+            if (inFlight.decrementAndGet() > 0) {
+                return;
+            }
+            if (exception.get() != null) {
+                result.completeExceptionally(exception.get());
+            } else if (failure.get() != null) {
+                result.complete(failure.get());
+            } else {
+                try {
+                    result.complete(complete());
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            }
+        }
+    }
+
     private static class StreamException extends EdcException {
 
         private final StreamFailure failure;
@@ -119,6 +241,11 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        public B maxInFlightPartitions(int maxInFlightPartitions) {
+            sink.maxInFlightPartitions = maxInFlightPartitions;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -137,6 +264,9 @@ public abstract class ParallelSink implements DataSink {
         public T build() {
             Objects.requireNonNull(sink.requestId, "requestId");
             Objects.requireNonNull(sink.executorService, "executorService");
+            if (sink.maxInFlightPartitions <= 0) {
+                throw new IllegalArgumentException("maxInFlightPartitions must be greater than 0");
+            }
             validate();
             return sink;
         }
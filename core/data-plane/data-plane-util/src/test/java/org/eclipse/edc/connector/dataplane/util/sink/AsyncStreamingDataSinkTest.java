@@ -36,6 +36,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AsyncStreamingDataSinkTest {
@@ -70,6 +72,7 @@ class AsyncStreamingDataSinkTest {
             assertThat(result).isSucceeded();
             assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
         });
+        verify(part).acknowledge();
     }
 
     @Test
@@ -96,6 +99,7 @@ class AsyncStreamingDataSinkTest {
         var future = dataSink.transfer(dataSource);
 
         assertThat(future).failsWithin(2, SECONDS).withThrowableThat().havingCause().isEqualTo(testException);
+        verify(part, never()).acknowledge();
     }
 
 }
@@ -23,14 +23,20 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -54,6 +60,23 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(1);
     }
 
+    @Test
+    void transfer_shouldAcknowledgeParts_onlyWhenTransferred() {
+        var transferred = mock(DataSource.Part.class);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(transferred)));
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(timeout);
+        verify(transferred).acknowledge();
+
+        var failed = mock(DataSource.Part.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(Stream.of(failed)));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(timeout);
+        verify(failed, never()).acknowledge();
+    }
+
     @Test
     void transfer_whenCompleteFails_fails() {
         var dataSource = dataSource();
@@ -125,6 +148,142 @@ class ParallelSinkTest {
         assertThat(future).isNotNull();
     }
 
+    @Test
+    void shouldNotExceedMaxInFlightPartitions() {
+        var inFlight = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(4))
+                .partitionSize(1)
+                .maxInFlightPartitions(2)
+                .requestId(dataFlowRequestId).build();
+        sink.transferResultSupplier = () -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            inFlight.decrementAndGet();
+            return StreamResult.success();
+        };
+        var parts = IntStream.range(0, 10).mapToObj(i -> mock(DataSource.Part.class));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+        assertThat(sink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopPullingPartitions_whenTransferFails() {
+        var transferred = new AtomicInteger();
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(2))
+                .partitionSize(1)
+                .maxInFlightPartitions(1)
+                .requestId(dataFlowRequestId).build();
+        sink.transferResultSupplier = () -> {
+            transferred.incrementAndGet();
+            return StreamResult.error(errorMessage);
+        };
+        var parts = IntStream.range(0, 10).mapToObj(i -> mock(DataSource.Part.class));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        assertThat(transferred.get()).isEqualTo(1);
+        assertThat(sink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void shouldTransferAllPartitions_whenPartStreamIsLong() {
+        var transferred = new AtomicInteger();
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(4))
+                .partitionSize(1)
+                .maxInFlightPartitions(3)
+                .requestId(dataFlowRequestId).build();
+        sink.transferResultSupplier = () -> {
+            transferred.incrementAndGet();
+            return StreamResult.success();
+        };
+        var parts = IntStream.range(0, 100_000).mapToObj(i -> mock(DataSource.Part.class));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(30))
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        assertThat(transferred.get()).isEqualTo(100_000);
+        assertThat(sink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopPullingInfinitePartStream_whenTransferFails() {
+        var transferred = new AtomicInteger();
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(4))
+                .partitionSize(1)
+                .maxInFlightPartitions(3)
+                .requestId(dataFlowRequestId).build();
+        sink.transferResultSupplier = () -> transferred.incrementAndGet() < 10_000 ? StreamResult.success() : StreamResult.error(errorMessage);
+        var infiniteStream = Stream.generate(() -> mock(DataSource.Part.class));
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(infiniteStream));
+
+        var future = sink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(30))
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+        assertThat(transferred.get()).isBetween(10_000, 10_002);
+        assertThat(sink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void shouldCompleteInFlightTransfers_whileWaitingForNextPart() {
+        var nextPartAvailable = new CountDownLatch(1);
+        var first = mock(DataSource.Part.class);
+        var second = mock(DataSource.Part.class);
+        var sink = new FakeParallelSink.Builder().monitor(mock())
+                .executorService(Executors.newFixedThreadPool(2))
+                .partitionSize(1)
+                .maxInFlightPartitions(2)
+                .requestId(dataFlowRequestId).build();
+        var parts = Stream.of(first, second).peek(part -> {
+            if (part == second) {
+                awaitUninterruptibly(nextPartAvailable);
+            }
+        });
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts));
+
+        var future = sink.transfer(dataSource);
+
+        verify(first, timeout(timeout.toMillis())).acknowledge();
+        assertThat(future).isNotDone();
+        nextPartAvailable.countDown();
+        assertThat(future).succeedsWithin(timeout)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        verify(second).acknowledge();
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private InputStreamDataSource dataSource() {
         return new InputStreamDataSource(
                 "test-datasource-name",
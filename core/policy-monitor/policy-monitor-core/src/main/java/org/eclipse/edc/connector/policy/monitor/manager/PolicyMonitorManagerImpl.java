@@ -116,6 +116,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .executor(entityExecutor)
                 .build();
     }
 
@@ -26,6 +26,7 @@ import org.eclipse.edc.token.rules.AudienceValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.async.AsyncUtils;
 import org.eclipse.edc.verifiablecredentials.jwt.rules.IssuerKeyIdValidationRule;
 
 import java.text.ParseException;
@@ -34,6 +35,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Computes the cryptographic integrity of a VerifiablePresentation when it's represented as JWT. Internally, for the actual
@@ -58,6 +60,8 @@ import java.util.Optional;
  *     </ul>
  *     <li>A VP is only verified, if it and all VCs it contains are verified</li>
  * </ul>
+ * The VCs contained in a VP are verified concurrently on the given {@link Executor}, their results are merged in the order
+ * in which they appear in the VP.
  *
  * <em>Note: VP-JWTs may only contain VCs also represented in JWT format. Mixing formats is not allowed.</em>
  */
@@ -73,16 +77,26 @@ public class JwtPresentationVerifier implements CredentialVerifier {
     private final TokenValidationService tokenValidationService;
     private final TokenValidationRulesRegistry tokenValidationRulesRegistry;
     private final PublicKeyResolver publicKeyResolver;
+    private final Executor executor;
 
     /**
-     * Verifies the JWT presentation by checking the cryptographic integrity.
+     * Verifies the JWT presentation by checking the cryptographic integrity. The contained credentials are verified sequentially.
      */
     public JwtPresentationVerifier(TypeManager typeManager, String typeContext, TokenValidationService tokenValidationService, TokenValidationRulesRegistry tokenValidationRulesRegistry, PublicKeyResolver publicKeyResolver) {
+        this(typeManager, typeContext, tokenValidationService, tokenValidationRulesRegistry, publicKeyResolver, Runnable::run);
+    }
+
+    /**
+     * Verifies the JWT presentation by checking the cryptographic integrity. The contained credentials are verified concurrently
+     * on the given executor.
+     */
+    public JwtPresentationVerifier(TypeManager typeManager, String typeContext, TokenValidationService tokenValidationService, TokenValidationRulesRegistry tokenValidationRulesRegistry, PublicKeyResolver publicKeyResolver, Executor executor) {
         this.typeManager = typeManager;
         this.typeContext = typeContext;
         this.tokenValidationService = tokenValidationService;
         this.tokenValidationRulesRegistry = tokenValidationRulesRegistry;
         this.publicKeyResolver = publicKeyResolver;
+        this.executor = executor;
     }
 
 
@@ -141,8 +155,10 @@ public class JwtPresentationVerifier implements CredentialVerifier {
             }
 
             // every VC is represented as another JWT, so we verify all of them
-            for (var token : rawCredentials) {
-                verificationResult = verificationResult.merge(context.toBuilder().audience(signedJwt.getJWTClaimsSet().getIssuer()).build().verify(token));
+            var credentialContext = context.toBuilder().audience(signedJwt.getJWTClaimsSet().getIssuer()).build();
+            var credentialResults = AsyncUtils.applyConcurrently(rawCredentials, credentialContext::verify, executor);
+            for (var credentialResult : credentialResults) {
+                verificationResult = verificationResult.merge(credentialResult);
             }
 
         } catch (ParseException e) {
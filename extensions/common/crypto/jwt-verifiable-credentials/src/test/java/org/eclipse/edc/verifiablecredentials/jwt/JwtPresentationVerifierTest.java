@@ -44,6 +44,7 @@ import java.sql.Date;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.result.Result.success;
@@ -179,6 +180,35 @@ class JwtPresentationVerifierTest {
         assertThat(result).isSucceeded();
     }
 
+    @DisplayName("VP-JWT with multiple VC-JWTs verified concurrently - one is invalid, expect a failure")
+    @Test
+    void verifyPresentation_multipleVc_concurrently_oneVcIsInvalid() throws JOSEException {
+        var spoofedKey = new ECKeyGenerator(Curve.P_256)
+                .keyID(CENTRAL_ISSUER_DID + "#" + CENTRAL_ISSUER_KEY_ID)
+                .generate();
+        var vcJwt1 = JwtCreationUtils.createJwt(vcSigningKey, CENTRAL_ISSUER_DID, "degreeSub", VP_HOLDER_ID, Map.of("vc", VC_CONTENT_DEGREE_EXAMPLE));
+        var vcJwt2 = JwtCreationUtils.createJwt(spoofedKey, CENTRAL_ISSUER_DID, "isoCred", VP_HOLDER_ID, Map.of("vc", VC_CONTENT_CERTIFICATE_EXAMPLE));
+        var vcJwt3 = JwtCreationUtils.createJwt(vcSigningKey, CENTRAL_ISSUER_DID, "isoCred", VP_HOLDER_ID, Map.of("vc", VC_CONTENT_CERTIFICATE_EXAMPLE));
+
+        var vpContent = "\"%s\", \"%s\", \"%s\"".formatted(vcJwt1, vcJwt2, vcJwt3);
+        var vpJwt = JwtCreationUtils.createJwt(vpSigningKey, VP_HOLDER_ID, "testSub", MY_OWN_DID, Map.of("vp", asMap(VP_CONTENT_TEMPLATE.formatted(vpContent))));
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var concurrentVerifier = new JwtPresentationVerifier(typeManager, "test", tokenValidationService, ruleRegistry, publicKeyResolverMock, executor);
+            var context = VerifierContext.Builder.newInstance()
+                    .verifier(concurrentVerifier)
+                    .audience(MY_OWN_DID)
+                    .build();
+
+            var result = concurrentVerifier.verify(vpJwt, context);
+
+            assertThat(result).isFailed().detail().contains("Token verification failed");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @DisplayName("VP-JWT with one spoofed VC-JWT - expect a failure")
     @Test
     void verifyPresentation_oneVcIsInvalid() throws JOSEException {
@@ -42,6 +42,7 @@ import org.eclipse.edc.iam.identitytrust.spi.verification.VerifierContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.util.async.AsyncUtils;
 import org.eclipse.edc.util.uri.UriUtils;
 
 import java.io.IOException;
@@ -52,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.spi.result.Result.failure;
@@ -67,6 +69,7 @@ public class LdpVerifier implements CredentialVerifier {
     private Collection<MethodResolver> methodResolvers = new ArrayList<>(List.of(new HttpMethodResolver()));
     private DocumentLoader loader;
     private URI base;
+    private Executor executor = Runnable::run;
 
     private LdpVerifier() {
     }
@@ -186,8 +189,8 @@ public class LdpVerifier implements CredentialVerifier {
                 credentials.add(credential.asJsonObject());
             }
 
-            return credentials.stream()
-                    .map(expCred -> context.verify(expCred.toString()))
+            var serializedCredentials = credentials.stream().map(JsonObject::toString).toList();
+            return AsyncUtils.applyConcurrently(serializedCredentials, context::verify, executor).stream()
                     .reduce(Result::merge)
                     .orElse(success()); // "no credentials" is still valid according to https://www.w3.org/TR/vc-data-model/#presentations-0
 
@@ -365,11 +368,23 @@ public class LdpVerifier implements CredentialVerifier {
             return this;
         }
 
+        /**
+         * If set, the credentials contained in a presentation are verified concurrently on this executor. By default, they
+         * are verified sequentially.
+         *
+         * @return the processor instance
+         */
+        public Builder executor(Executor executor) {
+            this.verifier.executor = executor;
+            return this;
+        }
+
         public LdpVerifier build() {
             Objects.requireNonNull(this.verifier.jsonLd, "Must have a JsonLD service!");
             Objects.requireNonNull(this.verifier.typeManager, "Must have a TypeManager!");
             Objects.requireNonNull(this.verifier.typeContext, "Must have a type context!");
             Objects.requireNonNull(this.verifier.suiteRegistry, "Must have a Signature registry!");
+            Objects.requireNonNull(this.verifier.executor, "Must have an executor!");
             return this.verifier;
         }
     }
@@ -23,10 +23,15 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 
 @Provides({DidResolverRegistry.class, DidPublicKeyResolver.class})
@@ -34,14 +39,30 @@ import java.time.Clock;
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_SHUTDOWN_TIMEOUT_SECONDS = 10;
     @Setting(description = "Expiry time for caching DID Documents in milliseconds", key = "edc.did.resolver.cache.expiry", defaultValue = 1000 * 60 * 5 + "")
     private long didCacheExpiryMillis;
+    @Setting(description = "Maximum number of cached DID Documents. Set to 0 to deactivate the cache.", key = "edc.did.resolver.cache.size",
+            defaultValue = DidResolverRegistryImpl.DEFAULT_CACHE_SIZE + "", min = 0)
+    private int didCacheSize;
+    @Setting(description = "Time in milliseconds before the expiry of a cached DID Document from which it gets refreshed asynchronously. Set to 0 to deactivate refresh-ahead.",
+            key = "edc.did.resolver.cache.refresh.ahead", defaultValue = 1000 * 60 + "", min = 0)
+    private long didCacheRefreshAheadMillis;
+    @Setting(description = "Time in milliseconds after the expiry of a cached DID Document during which it is still served if it cannot be resolved again. Set to 0 to never serve stale documents.",
+            key = "edc.did.resolver.cache.stale.validity", defaultValue = 1000 * 60 * 60 + "", min = 0)
+    private long didCacheStaleValidityMillis;
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -49,11 +70,30 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl(clock, didCacheExpiryMillis);
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(REFRESH_THREADS), "DID Document refresh");
+        var didResolverRegistry = new DidResolverRegistryImpl(didCacheSize, didCacheExpiryMillis, didCacheRefreshAheadMillis,
+                didCacheStaleValidityMillis, refreshExecutor, context.getMonitor().withPrefix("DID Resolution"), clock);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor == null) {
+            return;
+        }
+        // let the queued refreshes complete, a refresh that doesn't run only means that the document gets resolved again on expiry
+        refreshExecutor.shutdown();
+        try {
+            if (!refreshExecutor.awaitTermination(REFRESH_SHUTDOWN_TIMEOUT_SECONDS, SECONDS)) {
+                refreshExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            refreshExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
 }
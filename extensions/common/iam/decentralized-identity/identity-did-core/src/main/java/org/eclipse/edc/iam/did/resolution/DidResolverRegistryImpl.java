@@ -18,9 +18,9 @@ package org.eclipse.edc.iam.did.resolution;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
-import org.eclipse.edc.util.collection.TimestampedValue;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,35 +28,72 @@ import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the resolved documents in a {@link ConcurrentCache}:
+ * <ul>
+ *     <li>concurrent resolutions of the same DID are coalesced into a single call to the resolver by the cache loader</li>
+ *     <li>when a cached document gets close to its expiry, it keeps being served while it is refreshed asynchronously,
+ *     once per cached document</li>
+ *     <li>when an expired document cannot be resolved again, e.g. because the DID host is unavailable, the stale document
+ *     is served until the stale validity is over</li>
+ * </ul>
+ * Failed resolutions are never cached.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
+    public static final int DEFAULT_CACHE_SIZE = 50;
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, TimestampedValue<DidDocument>> didCache;
+    private final ConcurrentCache<String, CachedDocument> didCache;
+    private final ConcurrentCache<String, DidDocument> staleDocuments;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
-    private final long cacheValidity; // clean up cache every 5 minutes
+    private final long cacheValidity;
+    private final long refreshAheadMillis;
+    private final long retentionMillis;
+    private final Executor refreshExecutor;
+    private final Monitor monitor;
     private final Clock clock;
 
 
     public DidResolverRegistryImpl(Clock clock, long cacheValidityMillis) {
-        this(50, cacheValidityMillis, clock);
+        this(DEFAULT_CACHE_SIZE, cacheValidityMillis, clock);
     }
 
     /**
-     * Constructs a DidResolverRegistryImpl object with the specified cache size.
+     * Constructs a DidResolverRegistryImpl object with the specified cache size, without refresh-ahead nor stale documents.
      *
      * @param cacheSize     the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      * @param cacheValidity expiry time for cached DID Documents in milliseconds
      * @param clock         the {@link Clock}
      */
     public DidResolverRegistryImpl(int cacheSize, long cacheValidity, Clock clock) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        this(cacheSize, cacheValidity, 0, 0, Runnable::run, new Monitor() { }, clock);
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object.
+     *
+     * @param cacheSize           the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param cacheValidity       expiry time for cached DID Documents in milliseconds
+     * @param refreshAheadMillis  time before the expiry in milliseconds from which a cached DID Document is refreshed asynchronously. Pass 0 to deactivate refresh-ahead.
+     * @param staleValidityMillis time after the expiry in milliseconds during which a DID Document is still served if it cannot be resolved again. Pass 0 to never serve stale documents.
+     * @param refreshExecutor     the {@link Executor} that runs the asynchronous refreshes
+     * @param monitor             the {@link Monitor}
+     * @param clock               the {@link Clock}
+     */
+    public DidResolverRegistryImpl(int cacheSize, long cacheValidity, long refreshAheadMillis, long staleValidityMillis,
+                                   Executor refreshExecutor, Monitor monitor, Clock clock) {
+        this.didCache = new ConcurrentCache<>(cacheSize, cacheValidity, clock);
         this.cacheValidity = cacheValidity;
+        this.refreshAheadMillis = Math.min(Math.max(refreshAheadMillis, 0), cacheValidity);
+        this.retentionMillis = cacheValidity + Math.min(Math.max(staleValidityMillis, 0), Long.MAX_VALUE - cacheValidity);
+        this.staleDocuments = new ConcurrentCache<>(cacheSize, retentionMillis, clock);
+        this.refreshExecutor = refreshExecutor;
+        this.monitor = monitor;
         this.clock = clock;
     }
 
@@ -99,26 +136,74 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var cacheEntry = didCache.get(didKey);
-        DidDocument didDocument = null;
-
-        if (cacheEntry != null) {
-            if (cacheEntry.isExpired(clock)) { // lazy evict expired values
-                didCache.remove(didKey);
-            } else {
-                didDocument = cacheEntry.value();
-            }
+        var cached = didCache.get(didKey, key -> resolveDocument(key, resolver), this::remainingValidity);
+
+        if (refreshAheadMillis > 0 && cached.cacheable() && clock.millis() - cached.resolvedAt() >= cacheValidity - refreshAheadMillis
+                && cached.refreshing().compareAndSet(false, true)) {
+            refresh(didKey, resolver);
+        }
+        return cached.result();
+    }
+
+    /**
+     * Loads a document into the cache. When the DID cannot be resolved, the last resolved document is served, if any,
+     * until the stale validity is over. Neither failures nor stale documents are cached, so that the next lookup
+     * resolves the DID again.
+     */
+    private CachedDocument resolveDocument(String didKey, DidResolver resolver) {
+        var result = resolveDid(didKey, resolver);
+        if (result.succeeded()) {
+            return resolved(didKey, result.getContent());
+        }
+
+        var stale = staleDocuments.getIfPresent(didKey);
+        if (stale != null) {
+            monitor.warning("Failed to resolve DID %s, serving the last resolved document: %s".formatted(didKey, result.getFailureDetail()));
+            return new CachedDocument(Result.success(stale), clock.millis(), false, new AtomicBoolean());
         }
-        if (didDocument == null) { //resolve the did document again, put in cache
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, new TimestampedValue<>(didDocument, cacheValidity));
+        return new CachedDocument(result, clock.millis(), false, new AtomicBoolean());
+    }
+
+    private void refresh(String didKey, DidResolver resolver) {
+        try {
+            refreshExecutor.execute(() -> {
+                var result = resolveDid(didKey, resolver);
+                if (result.succeeded()) {
+                    var refreshed = resolved(didKey, result.getContent());
+                    didCache.put(didKey, refreshed, remainingValidity(refreshed));
+                } else {
+                    monitor.warning("Failed to refresh DID %s: %s".formatted(didKey, result.getFailureDetail()));
+                }
+            });
+        } catch (RuntimeException e) {
+            // the cached document will be resolved again once it expires
+            monitor.warning("Cannot schedule the refresh of DID %s".formatted(didKey), e);
         }
+    }
+
+    private Result<DidDocument> resolveDid(String didKey, DidResolver resolver) {
+        try {
+            return resolver.resolve(didKey);
+        } catch (RuntimeException e) {
+            monitor.warning("Error resolving DID %s".formatted(didKey), e);
+            return Result.failure("Error resolving DID %s: %s".formatted(didKey, e.getMessage()));
+        }
+    }
+
+    private CachedDocument resolved(String didKey, DidDocument document) {
+        if (retentionMillis > cacheValidity) {
+            staleDocuments.put(didKey, document, retentionMillis);
+        }
+        return new CachedDocument(Result.success(document), clock.millis(), true, new AtomicBoolean());
+    }
+
+    /**
+     * A document is valid for the cache validity after it was resolved.
+     */
+    private long remainingValidity(CachedDocument cached) {
+        return cached.cacheable() ? cacheValidity - (clock.millis() - cached.resolvedAt()) : 0;
+    }
 
-        return Result.success(didDocument);
+    private record CachedDocument(Result<DidDocument> result, long resolvedAt, boolean cacheable, AtomicBoolean refreshing) {
     }
 }
@@ -24,9 +24,15 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -35,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -102,7 +109,10 @@ class DidResolverRegistryImplTest {
 
     @Test
     void resolve_whenCacheExpired() {
-        registry = new DidResolverRegistryImpl(Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault()), CACHE_VALIDITY);
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.millis()).thenReturn(now.toEpochMilli(), now.plus(1, ChronoUnit.DAYS).toEpochMilli());
+        registry = new DidResolverRegistryImpl(clock, CACHE_VALIDITY);
         var resolver = mock(DidResolver.class);
         when(resolver.getMethod()).thenReturn(FOO_METHOD);
         when(resolver.resolve(any())).thenReturn(Result.success(DidDocument.Builder.newInstance().build()));
@@ -114,6 +124,132 @@ class DidResolverRegistryImplTest {
         verify(resolver, times(2)).resolve(anyString());
     }
 
+    @Test
+    void resolve_shouldNotCacheFailure() {
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.failure("not found"), Result.success(DidDocument.Builder.newInstance().build()));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isFailed();
+        assertThat(registry.resolve("did:foo:id")).isSucceeded();
+
+        verify(resolver, times(2)).resolve(anyString());
+    }
+
+    @Test
+    void resolve_shouldCoalesceConcurrentResolutions() throws Exception {
+        var resolving = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenAnswer(i -> {
+            resolving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Result.success(DidDocument.Builder.newInstance().build());
+        });
+        registry.register(resolver);
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var results = new ArrayList<Future<Result<DidDocument>>>();
+            results.add(executor.submit(() -> registry.resolve("did:foo:id")));
+            assertThat(resolving.await(5, TimeUnit.SECONDS)).isTrue();
+            for (var i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> registry.resolve("did:foo:id")));
+            }
+
+            release.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSucceeded();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(resolver, times(1)).resolve(anyString());
+    }
+
+    @Test
+    void resolve_shouldRefreshAsynchronously_whenCloseToExpiry() {
+        var time = new AtomicLong(0);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> time.get());
+        var refreshes = new ArrayList<Runnable>();
+        Executor refreshExecutor = refreshes::add;
+        registry = new DidResolverRegistryImpl(10, CACHE_VALIDITY, 1000, 0, refreshExecutor, mock(), clock);
+        var first = DidDocument.Builder.newInstance().id("first").build();
+        var second = DidDocument.Builder.newInstance().id("second").build();
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.success(first), Result.success(second));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        time.set(CACHE_VALIDITY - 500);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        assertThat(refreshes).hasSize(1);
+        verify(resolver, times(1)).resolve(anyString());
+
+        refreshes.get(0).run();
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(second);
+        verify(resolver, times(2)).resolve(anyString());
+    }
+
+    @Test
+    void resolve_shouldRefreshAgain_whenRefreshFails() {
+        var time = new AtomicLong(0);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> time.get());
+        var refreshes = new ArrayList<Runnable>();
+        Executor refreshExecutor = refreshes::add;
+        registry = new DidResolverRegistryImpl(10, CACHE_VALIDITY, 1000, 0, refreshExecutor, mock(), clock);
+        var first = DidDocument.Builder.newInstance().id("first").build();
+        var second = DidDocument.Builder.newInstance().id("second").build();
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.success(first), Result.failure("host unavailable"), Result.success(second));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        time.set(CACHE_VALIDITY - 500);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        refreshes.get(0).run();
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(first);
+        time.set(CACHE_VALIDITY + 1);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(second);
+        assertThat(refreshes).hasSize(1);
+        verify(resolver, times(3)).resolve(anyString());
+    }
+
+    @Test
+    void resolve_shouldServeStaleDocument_whenResolutionFails() {
+        var time = new AtomicLong(0);
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> time.get());
+        var refreshExecutor = mock(Executor.class);
+        registry = new DidResolverRegistryImpl(10, CACHE_VALIDITY, 0, 1000, refreshExecutor, mock(), clock);
+        var document = DidDocument.Builder.newInstance().build();
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.success(document), Result.failure("host unavailable"));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id")).isSucceeded();
+        time.set(CACHE_VALIDITY + 500);
+        assertThat(registry.resolve("did:foo:id")).isSucceeded().isSameAs(document);
+
+        time.set(CACHE_VALIDITY + 1001);
+        assertThat(registry.resolve("did:foo:id")).isFailed();
+
+        verify(resolver, times(3)).resolve(anyString());
+        verify(refreshExecutor, never()).execute(any());
+    }
+
     /**
      * Mock resolver class.
      */
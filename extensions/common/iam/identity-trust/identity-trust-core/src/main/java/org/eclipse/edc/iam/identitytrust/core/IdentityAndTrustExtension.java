@@ -68,6 +68,8 @@ import org.jetbrains.annotations.NotNull;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -84,12 +86,30 @@ import static org.eclipse.edc.verifiablecredentials.jwt.JwtPresentationVerifier.
 public class IdentityAndTrustExtension implements ServiceExtension {
 
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
+    public static final int DEFAULT_REVOCATION_CACHE_SIZE = 1000;
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
     public static final String DCP_CLIENT_CONTEXT = "dcp-client";
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
     public static final long DEFAULT_CLEANUP_PERIOD_SECONDS = 60;
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
+    public static final long DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS = 5 * 60 * 1000L;
+    public static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    public static final long DEFAULT_TOKEN_RENEWAL_MARGIN_MILLIS = 60 * 1000L;
+    public static final int DEFAULT_CREDENTIAL_VERIFICATION_THREADS = 4;
     @Setting(description = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", key = "edc.iam.credential.revocation.cache.validity")
     private long revocationCacheValidity;
+    @Setting(description = "Maximum number of status list credentials kept in memory", defaultValue = DEFAULT_REVOCATION_CACHE_SIZE + "", min = 0, key = "edc.iam.credential.revocation.cache.size")
+    private int revocationCacheSize;
+    @Setting(description = "Maximum number of verified presentation claims kept in memory. Set to 0 to disable the cache", defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "", min = 0, key = "edc.iam.credential.presentation.cache.size")
+    private int presentationCacheSize;
+    @Setting(description = "Maximum time in milliseconds verified presentation claims are kept in memory, capped by the revocation cache validity", defaultValue = DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS + "", key = "edc.iam.credential.presentation.cache.validity")
+    private long presentationCacheValidity;
+    @Setting(description = "Maximum number of outbound self-issued tokens kept in memory for reuse. Set to 0 to disable the cache", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "", min = 0, key = "edc.iam.sts.token.cache.size")
+    private int tokenCacheSize;
+    @Setting(description = "Time in milliseconds before its expiration at which a cached outbound self-issued token is not reused anymore", defaultValue = DEFAULT_TOKEN_RENEWAL_MARGIN_MILLIS + "", key = "edc.iam.sts.token.cache.renewal.margin")
+    private long tokenRenewalMargin;
+    @Setting(description = "Number of threads verifying the credentials contained in a presentation concurrently. Set to 0 to verify them sequentially", defaultValue = DEFAULT_CREDENTIAL_VERIFICATION_THREADS + "", min = 0, key = "edc.iam.credential.verification.threads")
+    private int credentialVerificationThreads;
     @Setting(description = "DID of this connector", key = "edc.iam.issuer.id")
     private String issuerId;
     @Setting(description = "The period of the JTI entry reaper thread in seconds", defaultValue = DEFAULT_CLEANUP_PERIOD_SECONDS + "", key = "edc.sql.store.jti.cleanup.period")
@@ -151,6 +171,7 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
     private ScheduledFuture<?> jtiEntryReaperThread;
+    private ExecutorService credentialVerificationExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -175,8 +196,8 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         participantAgentService.register(participantAgentServiceExtension);
 
         // register revocation services
-        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity));
-        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity));
+        revocationServiceRegistry.addService(StatusList2021Status.TYPE, new StatusList2021RevocationService(typeManager.getMapper(), revocationCacheValidity, revocationCacheSize, clock));
+        revocationServiceRegistry.addService(BitstringStatusListStatus.TYPE, new BitstringStatusListRevocationService(typeManager.getMapper(), revocationCacheValidity, revocationCacheSize, clock));
     }
 
     @Override
@@ -188,6 +209,9 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         jtiEntryReaperThread.cancel(true);
+        if (credentialVerificationExecutor != null) {
+            credentialVerificationExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -206,7 +230,8 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
         return new IdentityAndTrustService(secureTokenService, issuerId,
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
-                credentialValidationService);
+                credentialValidationService, presentationCacheSize, Math.min(presentationCacheValidity, revocationCacheValidity),
+                tokenCacheSize, tokenRenewalMargin, clock);
     }
 
     @Provider
@@ -227,13 +252,20 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public PresentationVerifier createPresentationVerifier(ServiceExtensionContext context) {
         if (presentationVerifier == null) {
 
-            var jwtVerifier = new JwtPresentationVerifier(typeManager, JSON_LD, tokenValidationService, rulesRegistry, didPublicKeyResolver);
+            Executor verificationExecutor = Runnable::run;
+            if (credentialVerificationThreads > 0) {
+                credentialVerificationExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(credentialVerificationThreads), "Credential verification");
+                verificationExecutor = credentialVerificationExecutor;
+            }
+
+            var jwtVerifier = new JwtPresentationVerifier(typeManager, JSON_LD, tokenValidationService, rulesRegistry, didPublicKeyResolver, verificationExecutor);
             var ldpVerifier = LdpVerifier.Builder.newInstance()
                     .signatureSuites(signatureSuiteRegistry)
                     .jsonLd(jsonLd)
                     .typeManager(typeManager)
                     .typeContext(JSON_LD)
                     .methodResolver(new DidMethodResolver(didResolverRegistry))
+                    .executor(verificationExecutor)
                     .build();
 
             presentationVerifier = new MultiFormatPresentationVerifier(issuerId, jwtVerifier, ldpVerifier);
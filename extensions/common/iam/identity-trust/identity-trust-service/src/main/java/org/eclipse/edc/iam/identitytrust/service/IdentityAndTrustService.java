@@ -14,12 +14,14 @@
 
 package org.eclipse.edc.iam.identitytrust.service;
 
+import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.spi.SecureTokenService;
 import org.eclipse.edc.iam.identitytrust.spi.validation.TokenValidationAction;
 import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentation;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiablePresentationContainer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.validation.CredentialValidationRule;
@@ -29,14 +31,20 @@ import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.eclipse.edc.util.string.StringUtils;
 
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -58,6 +66,13 @@ import static org.eclipse.edc.spi.result.Result.success;
  *     <li>Performs a presentation request against a CredentialService</li>
  *     <li>Validates and verifies the VerifiablePresentation</li>
  * </ul>
+ * The claims obtained from the verified presentations can be kept in a bounded cache, keyed by counterparty DID and requested
+ * scopes, so that subsequent requests only need the validation of the SI token. An entry is kept for at most the configured
+ * validity and never beyond the earliest expiration of the presented credentials. Concurrent requests for the same key
+ * wait for a single presentation request and verification.
+ * <p>
+ * Outbound SI tokens can be cached as well, keyed by their claims and scope, and get reused until shortly before their expiration.
+ * <p>
  * This service is intended to be used together with the Identity And Trust Protocols.
  * Details about the scope string can be found <a href="https://github.com/eclipse-tractusx/identity-trust/blob/main/specifications/M1/verifiable.presentation.protocol.md#31-access-scopes">here</a>
  */
@@ -71,6 +86,12 @@ public class IdentityAndTrustService implements IdentityService {
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final ConcurrentCache<PresentationCacheKey, VerifiedClaims> presentationCache;
+    private final long presentationCacheValidityMillis;
+    private final ConcurrentCache<OutboundTokenCacheKey, TokenRepresentation> tokenCache;
+    private final int tokenCacheSize;
+    private final long tokenRenewalMarginMillis;
+    private final Clock clock;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -84,6 +105,39 @@ public class IdentityAndTrustService implements IdentityService {
                                    CredentialServiceUrlResolver csUrlResolver,
                                    ClaimTokenCreatorFunction claimTokenCreatorFunction,
                                    VerifiableCredentialValidationService verifiableCredentialValidationService) {
+        this(secureTokenService, myOwnDid, credentialServiceClient, tokenValidationAction, csUrlResolver, claimTokenCreatorFunction,
+                verifiableCredentialValidationService, 0, 0, 0, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService} with caches for the verified presentation claims and
+     * for the outbound SI tokens.
+     *
+     * @param secureTokenService              Instance of an STS, which can create SI tokens
+     * @param myOwnDid                        The DID which belongs to "this connector"
+     * @param presentationCacheSize           the maximum number of verified presentation claims that the cache can hold. Pass 0 to deactivate the cache.
+     * @param presentationCacheValidityMillis the maximum time in milliseconds verified presentation claims are kept in the cache.
+     * @param tokenCacheSize                  the maximum number of outbound SI tokens that the cache can hold. Pass 0 to deactivate the cache.
+     * @param tokenRenewalMarginMillis        the time in milliseconds before its expiration at which an outbound SI token is not reused anymore.
+     * @param clock                           the {@link Clock}.
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   CredentialServiceUrlResolver csUrlResolver,
+                                   ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiableCredentialValidationService verifiableCredentialValidationService,
+                                   int presentationCacheSize,
+                                   long presentationCacheValidityMillis,
+                                   int tokenCacheSize,
+                                   long tokenRenewalMarginMillis,
+                                   Clock clock) {
+        this.presentationCache = new ConcurrentCache<>(presentationCacheSize, presentationCacheValidityMillis, clock);
+        this.presentationCacheValidityMillis = presentationCacheValidityMillis;
+        this.tokenCache = new ConcurrentCache<>(tokenCacheSize, ConcurrentCache.NO_EXPIRATION, clock);
+        this.tokenCacheSize = tokenCacheSize;
+        this.tokenRenewalMarginMillis = tokenRenewalMarginMillis;
+        this.clock = clock;
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.credentialServiceClient = credentialServiceClient;
@@ -118,7 +172,14 @@ public class IdentityAndTrustService implements IdentityService {
                 SUBJECT, myOwnDid,
                 AUDIENCE, parameters.getStringClaim(AUDIENCE)));
 
-        return secureTokenService.createToken(claims, scope);
+        var cacheKey = new OutboundTokenCacheKey(Map.copyOf(claims), scope);
+        var cachedToken = tokenCache.getIfPresent(cacheKey);
+        if (cachedToken != null) {
+            return success(cachedToken);
+        }
+
+        return secureTokenService.createToken(claims, scope)
+                .onSuccess(token -> tokenCache.put(cacheKey, token, tokenCacheValidity(token)));
     }
 
     @Override
@@ -134,6 +195,12 @@ public class IdentityAndTrustService implements IdentityService {
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
+        var cacheKey = new PresentationCacheKey(issuer, Set.copyOf(context.getScopes()));
+        var verifiedClaims = presentationCache.get(cacheKey, key -> verifyPresentations(issuer, accessToken, context), VerifiedClaims::cacheValidity);
+        return verifiedClaims.claims().map(this::copy);
+    }
+
+    private VerifiedClaims verifyPresentations(String issuer, String accessToken, VerificationContext context) {
         var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
                 AUDIENCE, issuer,
@@ -142,7 +209,7 @@ public class IdentityAndTrustService implements IdentityService {
                 EXPIRATION_TIME, Instant.now().plus(5, ChronoUnit.MINUTES).toString());
         var siToken = secureTokenService.createToken(siTokenClaims, null);
         if (siToken.failed()) {
-            return siToken.mapFailure();
+            return VerifiedClaims.failed(siToken.mapFailure());
         }
         var siTokenString = siToken.getContent().getToken();
 
@@ -151,18 +218,61 @@ public class IdentityAndTrustService implements IdentityService {
                 .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
 
         if (vpResponse.failed()) {
-            return vpResponse.mapEmpty();
+            return VerifiedClaims.failed(vpResponse.mapFailure());
         }
 
         var presentations = vpResponse.getContent();
 
         var result = verifiableCredentialValidationService.validate(presentations, getAdditionalValidations());
+        var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
+                .reduce(Stream.empty(), Stream::concat)
+                .toList();
 
-        return result
+        var claims = result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                        .reduce(Stream.empty(), Stream::concat)
-                        .toList()));
+                .compose(u -> claimTokenCreatorFunction.apply(credentials));
+        return new VerifiedClaims(claims, cacheValidity(credentials));
+    }
+
+    /**
+     * Returns the time in milliseconds the claims can be cached: the configured validity, capped by the earliest
+     * credential expiration.
+     */
+    private long cacheValidity(List<VerifiableCredential> credentials) {
+        if (presentationCacheValidityMillis <= 0) {
+            return 0;
+        }
+        return credentials.stream()
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .map(expiration -> Duration.between(clock.instant(), expiration).toMillis())
+                .reduce(presentationCacheValidityMillis, Math::min);
+    }
+
+    /**
+     * Returns the time in milliseconds an outbound SI token can be reused: until the renewal margin before its expiration.
+     * Tokens that cannot be parsed or that don't carry an expiration are not cached.
+     */
+    private long tokenCacheValidity(TokenRepresentation token) {
+        if (tokenCacheSize <= 0) {
+            return 0;
+        }
+        try {
+            var expiration = SignedJWT.parse(token.getToken()).getJWTClaimsSet().getExpirationTime();
+            if (expiration == null) {
+                return 0;
+            }
+            return Duration.between(clock.instant(), expiration.toInstant()).toMillis() - tokenRenewalMarginMillis;
+        } catch (ParseException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Cached claims are copied in and out, so that the consumers cannot modify the cached instance.
+     */
+    private ClaimToken copy(ClaimToken claimToken) {
+        return ClaimToken.Builder.newInstance().claims(claimToken.getClaims()).build();
     }
 
     /**
@@ -195,4 +305,24 @@ public class IdentityAndTrustService implements IdentityService {
                 success() :
                 failure("Scope string invalid: '%s' does not match regex %s".formatted(scope, SCOPE_STRING_REGEX));
     }
+
+    private record PresentationCacheKey(String counterPartyDid, Set<String> scopes) {
+    }
+
+    /**
+     * Outcome of a presentation verification, only successful outcomes are cached.
+     */
+    private record VerifiedClaims(Result<ClaimToken> claims, long validity) {
+
+        static VerifiedClaims failed(Result<ClaimToken> failure) {
+            return new VerifiedClaims(failure, 0);
+        }
+
+        long cacheValidity() {
+            return claims.succeeded() ? validity : 0;
+        }
+    }
+
+    private record OutboundTokenCacheKey(Map<String, String> claims, String scope) {
+    }
 }
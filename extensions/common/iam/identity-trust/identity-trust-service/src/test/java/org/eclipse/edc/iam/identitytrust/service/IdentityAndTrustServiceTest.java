@@ -41,8 +41,19 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
 import static org.eclipse.edc.iam.identitytrust.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
 import static org.eclipse.edc.iam.identitytrust.spi.TestFunctions.createJwt;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
@@ -59,6 +70,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -147,6 +159,71 @@ class IdentityAndTrustServiceTest {
     }
 
 
+    @Nested
+    class ObtainClientCredentialsWithCache {
+
+        private static final String SCOPE_STRING = "org.eclipse.edc.vp.type:TestCredential:read";
+        private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
+                actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().build()),
+                credentialValidationServiceMock, 0, 0, 10, 60_000, clock);
+
+        @Test
+        void shouldReuseToken_whenAudienceAndScopeMatch() {
+            var token = tokenExpiringIn(300);
+            when(mockedSts.createToken(any(), any())).thenReturn(success(token));
+
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isSucceeded().isSameAs(token);
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isSucceeded().isSameAs(token);
+
+            verify(mockedSts, times(1)).createToken(any(), eq(SCOPE_STRING));
+        }
+
+        @Test
+        void shouldCreateToken_whenAudienceDiffers() {
+            when(mockedSts.createToken(any(), any())).thenReturn(success(tokenExpiringIn(300)));
+
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isSucceeded();
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("another-audience"))).isSucceeded();
+
+            verify(mockedSts, times(2)).createToken(any(), eq(SCOPE_STRING));
+        }
+
+        @Test
+        void shouldNotReuseToken_whenExpirationWithinRenewalMargin() {
+            when(mockedSts.createToken(any(), any())).thenReturn(success(tokenExpiringIn(30)));
+
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isSucceeded();
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isSucceeded();
+
+            verify(mockedSts, times(2)).createToken(any(), eq(SCOPE_STRING));
+        }
+
+        @Test
+        void shouldNotCache_whenStsFails() {
+            when(mockedSts.createToken(any(), any())).thenReturn(failure("sts error"));
+
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isFailed();
+            assertThat(cachingService.obtainClientCredentials(tokenParameters("test-audience"))).isFailed();
+
+            verify(mockedSts, times(2)).createToken(any(), eq(SCOPE_STRING));
+        }
+
+        private TokenParameters tokenParameters(String audience) {
+            return TokenParameters.Builder.newInstance()
+                    .claims(SCOPE, SCOPE_STRING)
+                    .claims(AUDIENCE, audience)
+                    .build();
+        }
+
+        private TokenRepresentation tokenExpiringIn(long seconds) {
+            return createJwt(new JWTClaimsSet.Builder()
+                    .issuer(EXPECTED_OWN_DID)
+                    .expirationTime(Date.from(clock.instant().plusSeconds(seconds)))
+                    .build());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Nested
     class VerifyJwtToken {
@@ -338,4 +415,112 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
+                actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                credentialValidationServiceMock, 10, 60_000, 0, 0, clock);
+
+        @Test
+        void shouldNotRequestPresentation_whenCached() {
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer(null))));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1", "scope2")))).isSucceeded();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope2", "scope1")))).isSucceeded()
+                    .satisfies(ct -> Assertions.assertThat(ct.getListClaim("vc")).hasSize(1));
+
+            verify(actionMock, times(2)).apply(any());
+            verify(mockedClient, times(1)).requestPresentation(any(), any(), any());
+            verify(credentialValidationServiceMock, times(1)).validate(anyList(), anyCollection());
+        }
+
+        @Test
+        void shouldVerifyPresentationOnce_whenRequestedConcurrently() throws Exception {
+            var requested = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            when(mockedClient.requestPresentation(any(), any(), any())).thenAnswer(invocation -> {
+                requested.countDown();
+                release.await();
+                return success(List.of(vpContainer(null)));
+            });
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+            var executor = Executors.newFixedThreadPool(4);
+
+            try {
+                var results = range(0, 4)
+                        .mapToObj(i -> supplyAsync(() -> cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1"))), executor))
+                        .toList();
+                Assertions.assertThat(requested.await(5, SECONDS)).isTrue();
+                release.countDown();
+
+                Assertions.assertThat(results).allSatisfy(result -> assertThat(result.get(5, SECONDS)).isSucceeded());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(mockedClient, times(1)).requestPresentation(any(), any(), any());
+            verify(credentialValidationServiceMock, times(1)).validate(anyList(), anyCollection());
+        }
+
+        @Test
+        void shouldRequestPresentation_whenScopesDiffer() {
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer(null))));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1")))).isSucceeded();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope2")))).isSucceeded();
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+
+        @Test
+        void shouldNotCache_whenCredentialIsExpired() {
+            var expiration = clock.instant().minus(1, ChronoUnit.SECONDS);
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer(expiration))));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1")))).isSucceeded();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1")))).isSucceeded();
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+
+        @Test
+        void shouldNotCache_whenVerificationFails() {
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer(null))));
+            when(credentialValidationServiceMock.validate(anyList(), anyCollection())).thenReturn(failure("test error"));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1")))).isFailed();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext(Set.of("scope1")))).isFailed();
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+
+        private VerificationContext verificationContext(Set<String> scopes) {
+            return VerificationContext.Builder.newInstance()
+                    .policy(Policy.Builder.newInstance().build())
+                    .scopes(scopes)
+                    .build();
+        }
+
+        private VerifiablePresentationContainer vpContainer(Instant credentialExpiration) {
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .expirationDate(credentialExpiration)
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance()
+                                    .id(CONSUMER_DID)
+                                    .claim("some-claim", "some-val")
+                                    .build()))
+                            .build()))
+                    .build();
+            return new VerifiablePresentationContainer("test-vp", CredentialFormat.VC1_0_LD, presentation);
+        }
+    }
+}
@@ -19,15 +19,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialStatus;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.BitString;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.Cache;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
 import java.io.IOException;
 import java.net.URI;
-import java.time.Instant;
-import java.util.Map;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -38,20 +39,40 @@ import static org.eclipse.edc.spi.result.Result.success;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList credential, it is cached in a {@link ConcurrentCache}, and only re-downloaded if the cache entry
+ * or the credential itself is expired. Downloads of different status lists don't block each other. The encoded list is decoded
+ * once per download and cached alongside the credential, so that status checks are plain bit lookups.
  * <p>
  * Currently, StatusList2021 and BitStringStatusList are supported.
  */
 public abstract class BaseRevocationListService<C extends VerifiableCredential, S> implements RevocationListService {
-    private final Cache<String, C> statusListCredentialCache;
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+    private final ConcurrentCache<String, StatusList<C>> statusListCache;
+    private final long cacheValidity;
+    private final Clock clock;
     private final Class<C> credentialClass;
     private final ObjectMapper objectMapper;
 
     protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, Class<C> credentialClass) {
+        this(mapper, cacheValidity, DEFAULT_CACHE_SIZE, Clock.systemUTC(), credentialClass);
+    }
+
+    /**
+     * Constructs the service.
+     *
+     * @param mapper          the object mapper used to deserialize the status list credentials.
+     * @param cacheValidity   the time in milliseconds a status list credential is cached.
+     * @param cacheSize       the maximum number of status list credentials kept in memory.
+     * @param clock           the {@link Clock}.
+     * @param credentialClass the type of the status list credentials.
+     */
+    protected BaseRevocationListService(ObjectMapper mapper, long cacheValidity, int cacheSize, Clock clock, Class<C> credentialClass) {
         this.objectMapper = mapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        statusListCredentialCache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        statusListCache = new ConcurrentCache<>(cacheSize, cacheValidity, clock);
+        this.cacheValidity = cacheValidity;
+        this.clock = clock;
         this.credentialClass = credentialClass;
     }
 
@@ -108,14 +129,28 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      * @throws EdcException if it could not be downloaded
      */
     protected C getCredential(String credentialUrl) {
-        var credential = statusListCredentialCache.get(credentialUrl);
-        // credential is cached, but expired -> download again
-        if (credential != null && credential.getExpirationDate() != null && credential.getExpirationDate().isBefore(Instant.now())) {
-            statusListCredentialCache.evict(credentialUrl);
-        }
-        return statusListCredentialCache.get(credentialUrl);
+        return getStatusList(credentialUrl).credential();
+    }
+
+    /**
+     * Gets the decoded bitstring of a statuslist credential from the cache, or if it's not there yet, downloads the credential and decodes it.
+     *
+     * @param credentialUrl the URL from where to download the cred
+     * @return the decoded {@link BitString}, or a failure if the encoded list could not be decoded
+     * @throws EdcException if it could not be downloaded
+     */
+    protected Result<BitString> getBitString(String credentialUrl) {
+        return getStatusList(credentialUrl).bitString();
     }
 
+    /**
+     * Decodes the encoded list of a statuslist credential. It is invoked once per download of the credential.
+     *
+     * @param credential the StatusList credential
+     * @return the decoded {@link BitString}
+     */
+    protected abstract Result<BitString> decodeBitString(C credential);
+
     /**
      * Obtains the status purpose for a particular credentialStatus entry if it is set, otherwise returns a successful result with a {@code null} content.
      * So, a successful result with a non-null content indicates, that the respective credentialStatus is set.
@@ -149,6 +184,26 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
      */
     protected abstract S getCredentialStatus(CredentialStatus credentialStatus);
 
+    /**
+     * A status list credential is cached for the cache validity, but never beyond its own expiration date.
+     */
+    private long cacheValidity(StatusList<C> statusList) {
+        var expirationDate = statusList.credential().getExpirationDate();
+        if (expirationDate == null) {
+            return cacheValidity;
+        }
+        return Math.min(cacheValidity, Duration.between(clock.instant(), expirationDate).toMillis());
+    }
+
+    private StatusList<C> getStatusList(String credentialUrl) {
+        return statusListCache.get(credentialUrl, this::downloadStatusList, this::cacheValidity);
+    }
+
+    private StatusList<C> downloadStatusList(String credentialUrl) {
+        var credential = downloadStatusListCredential(credentialUrl);
+        return new StatusList<>(credential, decodeBitString(credential));
+    }
+
     private C downloadStatusListCredential(String credentialUrl) {
         try {
             return objectMapper.readValue(URI.create(credentialUrl).toURL(), credentialClass);
@@ -156,4 +211,7 @@ public abstract class BaseRevocationListService<C extends VerifiableCredential,
             throw new EdcException(e);
         }
     }
+
+    private record StatusList<C>(C credential, Result<BitString> bitString) {
+    }
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstrings
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.StatusMessage;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
 import java.util.Base64;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -37,6 +38,10 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
         super(mapper, cacheValidity, BitstringStatusListCredential.class);
     }
 
+    public BitstringStatusListRevocationService(ObjectMapper mapper, long cacheValidity, int cacheSize, Clock clock) {
+        super(mapper, cacheValidity, cacheSize, clock, BitstringStatusListCredential.class);
+    }
+
     @Override
     protected Result<Void> preliminaryChecks(BitstringStatusListStatus credentialStatus) {
         var statusSize = credentialStatus.getStatusSize();
@@ -47,10 +52,8 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
     }
 
     @Override
-    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
-        var bitStringCredential = getCredential(credentialStatus.getStatusListCredential());
-
-        var bitString = bitStringCredential.encodedList();
+    protected Result<BitString> decodeBitString(BitstringStatusListCredential credential) {
+        var bitString = credential.encodedList();
         var decoder = Base64.getDecoder();
         if (bitString.charAt(0) == 'u') { // base64 url
             decoder = Base64.getUrlDecoder();
@@ -59,11 +62,16 @@ public class BitstringStatusListRevocationService extends BaseRevocationListServ
             return Result.failure("The encoded list is using the Base58-BTC alphabet ('z' multibase header), which is not supported.");
         }
 
-        var compressedBitstring = BitString.Parser.newInstance().decoder(decoder).parse(bitString);
-        if (compressedBitstring.failed()) {
-            return compressedBitstring.mapEmpty();
+        return BitString.Parser.newInstance().decoder(decoder).parse(bitString);
+    }
+
+    @Override
+    protected Result<String> getStatusEntryValue(BitstringStatusListStatus credentialStatus) {
+        var bitStringResult = getBitString(credentialStatus.getStatusListCredential());
+        if (bitStringResult.failed()) {
+            return bitStringResult.mapEmpty();
         }
-        var bitstring = compressedBitstring.getContent();
+        var bitstring = bitStringResult.getContent();
 
         // todo: check that encodedList / statusSize == minimumLength (defaults to 131_072 = encodedList minimum length in bits),
         // otherwise raise error
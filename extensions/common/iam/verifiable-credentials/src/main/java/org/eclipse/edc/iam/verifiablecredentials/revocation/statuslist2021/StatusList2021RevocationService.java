@@ -22,6 +22,8 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.statuslist2021.StatusList2021Status;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
+
 import static org.eclipse.edc.spi.result.Result.success;
 
 
@@ -35,19 +37,26 @@ public class StatusList2021RevocationService extends BaseRevocationListService<S
         super(objectMapper, cacheValidity, StatusList2021Credential.class);
     }
 
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, int cacheSize, Clock clock) {
+        super(objectMapper, cacheValidity, cacheSize, clock, StatusList2021Credential.class);
+    }
+
     @Override
     protected StatusList2021Status getCredentialStatus(CredentialStatus credentialStatus) {
         return StatusList2021Status.from(credentialStatus);
     }
 
+    @Override
+    protected Result<BitString> decodeBitString(StatusList2021Credential credential) {
+        return BitString.Parser.newInstance().parse(credential.encodedList());
+    }
+
     @Override
     protected Result<String> getStatusEntryValue(StatusList2021Status credentialStatus) {
         var index = credentialStatus.getStatusListIndex();
         var slCredUrl = credentialStatus.getStatusListCredential();
-        var credential = getCredential(slCredUrl);
-
 
-        var bitStringResult = BitString.Parser.newInstance().parse(credential.encodedList());
+        var bitStringResult = getBitString(slCredUrl);
 
         if (bitStringResult.failed()) {
             return bitStringResult.mapEmpty();
@@ -44,6 +44,9 @@ import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bit
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.revocation.bitstringstatuslist.BitstringStatusListStatus.STATUS_LIST_SIZE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockserver.model.HttpRequest.request;
 
 class BitstringStatusListRevocationServiceTest {
@@ -138,6 +141,35 @@ class BitstringStatusListRevocationServiceTest {
             clientAndServer.verify(request(), VerificationTimes.exactly(1));
         }
 
+        @Test
+        void checkValidity_shouldReuseDecodedList_whenDifferentIndexes() {
+            var bitstring = generateBitstring(REVOKED_INDEX, 1);
+            var bitstringCredential = TestData.BitstringStatusList.BITSTRING_STATUS_LIST_CREDENTIAL_SINGLE_SUBJECT_TEMPLATE.formatted(bitstring);
+            clientAndServer.reset()
+                    .when(request().withMethod("GET").withPath("/credentials/status/3"))
+                    .respond(HttpResponse.response().withStatusCode(200).withBody(bitstringCredential));
+            var statusListUrl = "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort());
+
+            var revoked = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, statusListUrl));
+            var notRevoked = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
+                    Map.of(STATUS_LIST_PURPOSE, "revocation",
+                            STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                            STATUS_LIST_SIZE, 1,
+                            STATUS_LIST_CREDENTIAL, statusListUrl));
+
+            var service = spy(revocationService);
+
+            assertThat(service.checkValidity(revoked)).isFailed();
+            assertThat(service.checkValidity(notRevoked)).isSucceeded();
+            assertThat(service.checkValidity(revoked)).isFailed();
+            clientAndServer.verify(request(), VerificationTimes.exactly(1));
+            verify(service).decodeBitString(any());
+        }
+
         @Test
         void checkValidity_credentialPurposeMismatch_notCached() {
             var credential = new CredentialStatus("test-id", BITSTRING_STATUSLIST_CREDENTIAL,
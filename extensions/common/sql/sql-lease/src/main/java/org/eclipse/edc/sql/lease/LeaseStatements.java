@@ -36,6 +36,28 @@ public interface LeaseStatements extends SqlStatements {
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Statement that leases all the entities selected by the candidates query in a single round trip: expired leases
+     * of the candidates get deleted, a new lease is inserted for every candidate and set on the entity. Returns the
+     * ids of the leased entities.
+     * Parameters are the ones of the candidates query followed by leased by, leased at and lease duration.
+     *
+     * @param entityTableName the entity table name.
+     * @param entityIdColumn the entity id column name.
+     * @param candidatesQuery the query that selects and locks the entities to be leased, as sub-query.
+     * @return the statement.
+     */
+    default String getAcquireLeasesTemplate(String entityTableName, String entityIdColumn, String candidatesQuery) {
+        return format("WITH candidates AS (SELECT entity_id, expired_lease_id, gen_random_uuid()::varchar AS new_lease_id " +
+                        "FROM (SELECT DISTINCT %2$s AS entity_id, %3$s AS expired_lease_id FROM (%4$s) AS selected) AS distinct_candidates), " +
+                        "expired_leases AS (DELETE FROM %5$s WHERE %3$s IN (SELECT expired_lease_id FROM candidates)), " +
+                        "new_leases AS (INSERT INTO %5$s (%3$s, %6$s, %7$s, %8$s) SELECT new_lease_id, ?, ?, ? FROM candidates) " +
+                        "UPDATE %1$s SET %3$s = candidates.new_lease_id FROM candidates WHERE %1$s.%2$s = candidates.entity_id " +
+                        "RETURNING %1$s.%2$s;",
+                entityTableName, entityIdColumn, getLeaseIdColumn(), candidatesQuery,
+                getLeaseTableName(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
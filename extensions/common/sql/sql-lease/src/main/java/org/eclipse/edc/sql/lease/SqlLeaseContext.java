@@ -18,6 +18,7 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.spi.persistence.LeaseContext;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
@@ -26,6 +27,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -90,9 +94,8 @@ public class SqlLeaseContext implements LeaseContext {
 
             // create new lease in DB
             var id = UUID.randomUUID().toString();
-            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
             var stmt = statements.getInsertLeaseTemplate();
-            queryExecutor.execute(connection, stmt, id, leaseHolder, now, duration);
+            queryExecutor.execute(connection, stmt, id, leaseHolder, now, getLeaseDurationMillis());
 
             //update entity with lease -> effectively lease entity
             var updStmt = statements.getUpdateLeaseTemplate();
@@ -101,6 +104,33 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires a lease on all the not leased entities selected by the candidates query with a single statement.
+     * Entities that are locked by a concurrent transaction (e.g. another runtime leasing them) are skipped.
+     *
+     * @param entityTableName the entity table name.
+     * @param entityIdColumn the entity id column name.
+     * @param candidates the query that selects the entities to be leased.
+     * @return the ids of the leased entities.
+     */
+    public List<String> acquireLeases(String entityTableName, String entityIdColumn, SqlQueryStatement candidates) {
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            candidates.addWhereClause(statements.getNotLeasedFilter(), now)
+                    .forUpdateSkipLocked(entityTableName);
+
+            var stmt = statements.getAcquireLeasesTemplate(entityTableName, entityIdColumn, candidates.getSubQueryAsString());
+            var parameters = new ArrayList<>(Arrays.asList(candidates.getParameters()));
+            parameters.add(leaseHolder);
+            parameters.add(now);
+            parameters.add(getLeaseDurationMillis());
+
+            try (var stream = queryExecutor.query(connection, false, rs -> rs.getString(entityIdColumn), stmt, parameters.toArray())) {
+                return stream.toList();
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -112,6 +142,10 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
+    private long getLeaseDurationMillis() {
+        return leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
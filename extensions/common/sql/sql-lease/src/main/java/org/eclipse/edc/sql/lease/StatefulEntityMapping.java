@@ -30,6 +30,7 @@ public class StatefulEntityMapping extends TranslationMapping {
         add("state", new EntityStateFieldTranslator(statements.getStateColumn(), stateResolver));
         add("stateCount", statements.getStateCountColumn());
         add("stateTimestamp", statements.getStateTimestampColumn());
+        add("nextAttemptAt", statements.getNextAttemptAtColumn());
         add("createdAt", statements.getCreatedAtColumn());
         add("updatedAt", statements.getUpdatedAtColumn());
         add("traceContext", new JsonFieldTranslator(statements.getTraceContextColumn()));
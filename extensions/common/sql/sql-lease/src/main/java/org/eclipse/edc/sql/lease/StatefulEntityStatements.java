@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.lease;
 
+import static java.lang.String.format;
+
 public interface StatefulEntityStatements {
 
     String getIdColumn();
@@ -30,6 +32,20 @@ public interface StatefulEntityStatements {
         return "state_count";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    /**
+     * Filter that excludes the entities whose next processing attempt is not due yet. Takes the current timestamp as
+     * parameter.
+     *
+     * @return the where clause.
+     */
+    default String getNextAttemptDueFilter() {
+        return format("(%s IS NULL OR %s <= ?)", getNextAttemptAtColumn(), getNextAttemptAtColumn());
+    }
+
     default String getTraceContextColumn() {
         return "trace_context";
     }
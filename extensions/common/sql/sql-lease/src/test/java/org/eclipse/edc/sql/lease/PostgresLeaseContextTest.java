@@ -19,6 +19,7 @@ import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.SqlQueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.AfterEach;
@@ -168,6 +169,54 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+        leaseContext.acquireLease("id3");
+
+        var leased = leaseContext.acquireLeases(dialect.getEntityTableName(), "id", selectEntities(10));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id2")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_shouldRespectLimit(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+
+        var leased = leaseContext.acquireLeases(dialect.getEntityTableName(), "id", selectEntities(2));
+
+        assertThat(leased).hasSize(2);
+        assertThat(leaseContext.acquireLeases(dialect.getEntityTableName(), "id", selectEntities(2))).hasSize(1);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldDeleteOldLeaseAndAcquireNewLease(Connection connection) {
+        var entityId = "test-entity";
+        insertTestEntity(entityId, connection);
+        builder.by("someone-else").withConnection(connection).acquireLease(entityId);
+        var leaseId = leaseContext.getLease(entityId).getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(dialect.getEntityTableName(), "id", selectEntities(10));
+
+        assertThat(leased).containsExactly(entityId);
+        var newLease = twoMinutesAheadContext.getLease(entityId);
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+        try (var stream = queryExecutor.query(connection, false, rs -> rs.getString("lease_id"), "SELECT lease_id FROM edc_lease WHERE lease_id = ?", leaseId)) {
+            assertThat(stream).isEmpty();
+        }
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -192,6 +241,10 @@ class PostgresLeaseContextTest {
         });
     }
 
+    private SqlQueryStatement selectEntities(int limit) {
+        return new SqlQueryStatement("SELECT * FROM " + dialect.getEntityTableName(), limit, 0);
+    }
+
     private ResultSetMapper<TestEntity> map() {
         return (rs) -> new TestEntity(rs.getString("id"), rs.getString("lease_id"));
     }
@@ -27,6 +27,8 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.util.async.AsyncUtils;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
 import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProvider;
 import org.eclipse.edc.vault.hashicorp.util.PathUtil;
@@ -36,13 +38,22 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_SECRET_METADATA_PATH;
 import static org.eclipse.edc.vault.hashicorp.VaultConstants.VAULT_TOKEN_HEADER;
 
 /**
  * Implements a vault backed by Hashicorp Vault.
+ * <p>
+ * If a cache TTL is configured, resolved secrets are kept in memory for that TTL, or for their lease duration if it is
+ * shorter. Concurrent reads of the same key make a single request, and storing or deleting a secret through this instance
+ * invalidates its cache entry. Secrets changed by other clients of the vault are picked up when their entry expires.
  */
 public class HashicorpVault implements Vault {
     private static final String VAULT_SECRET_DATA_PATH = "data";
@@ -54,21 +65,86 @@ public class HashicorpVault implements Vault {
     private final EdcHttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final HashicorpVaultTokenProvider tokenProvider;
+    private final Executor executor;
+    private final ConcurrentCache<String, Secret> secretCache;
+    private final long secretCacheTtlMillis;
 
     public HashicorpVault(@NotNull Monitor monitor,
                           HashicorpVaultSettings settings,
                           EdcHttpClient httpClient,
                           ObjectMapper objectMapper,
                           HashicorpVaultTokenProvider tokenProvider) {
+        this(monitor, settings, httpClient, objectMapper, tokenProvider, Runnable::run, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a vault.
+     *
+     * @param monitor       the {@link Monitor}
+     * @param settings      the vault settings, including the secret cache settings
+     * @param httpClient    the http client
+     * @param objectMapper  the object mapper
+     * @param tokenProvider the vault token provider
+     * @param executor      the {@link Executor} on which {@link #resolveSecrets(Collection)} reads the secrets concurrently
+     * @param clock         the {@link Clock} used to expire cached secrets
+     */
+    public HashicorpVault(@NotNull Monitor monitor,
+                          HashicorpVaultSettings settings,
+                          EdcHttpClient httpClient,
+                          ObjectMapper objectMapper,
+                          HashicorpVaultTokenProvider tokenProvider,
+                          Executor executor,
+                          Clock clock) {
         this.monitor = monitor;
         this.settings = settings;
         this.httpClient = httpClient;
         this.objectMapper = objectMapper;
         this.tokenProvider = tokenProvider;
+        this.executor = executor;
+        this.secretCacheTtlMillis = settings.secretCacheTtl() * 1000;
+        var cacheSize = secretCacheTtlMillis > 0 ? settings.secretCacheSize() : 0;
+        this.secretCache = new ConcurrentCache<>(cacheSize, secretCacheTtlMillis, clock);
     }
 
     @Override
     public @Nullable String resolveSecret(String key) {
+        var secret = secretCache.get(key, this::readSecret, this::cacheValidity);
+        return secret == null ? null : secret.value();
+    }
+
+    @Override
+    public Map<String, String> resolveSecrets(Collection<String> keys) {
+        var keyList = new ArrayList<>(keys);
+        var values = AsyncUtils.applyConcurrently(keyList, this::resolveSecret, executor);
+
+        var secrets = new HashMap<String, String>();
+        for (var i = 0; i < keyList.size(); i++) {
+            if (values.get(i) != null) {
+                secrets.put(keyList.get(i), values.get(i));
+            }
+        }
+        return secrets;
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        try {
+            return writeSecret(key, value);
+        } finally {
+            secretCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        try {
+            return destroySecret(key);
+        } finally {
+            secretCache.invalidate(key);
+        }
+    }
+
+    private @Nullable Secret readSecret(String key) {
 
         var requestUri = getSecretUrl(key, VAULT_SECRET_DATA_PATH);
         var request = new Request.Builder()
@@ -85,7 +161,8 @@ public class HashicorpVault implements Vault {
                 if (responseBody != null) {
                     // using JsonNode here because it makes traversing down the tree null-safe
                     var payload = objectMapper.readValue(responseBody.string(), JsonNode.class);
-                    return payload.path("data").path("data").get(VAULT_DATA_ENTRY_NAME).asText();
+                    var value = payload.path("data").path("data").get(VAULT_DATA_ENTRY_NAME).asText();
+                    return new Secret(value, payload.path("lease_duration").asLong(0) * 1000);
                 }
                 monitor.debug("Secret response body is empty");
 
@@ -102,8 +179,7 @@ public class HashicorpVault implements Vault {
         return null;
     }
 
-    @Override
-    public Result<Void> storeSecret(String key, String value) {
+    private Result<Void> writeSecret(String key, String value) {
 
         var requestUri = getSecretUrl(key, VAULT_SECRET_DATA_PATH);
 
@@ -125,8 +201,7 @@ public class HashicorpVault implements Vault {
         }
     }
 
-    @Override
-    public Result<Void> deleteSecret(String key) {
+    private Result<Void> destroySecret(String key) {
         var requestUri = getSecretUrl(key, VAULT_SECRET_METADATA_PATH);
         var request = new Request.Builder()
                 .url(requestUri)
@@ -141,6 +216,16 @@ public class HashicorpVault implements Vault {
         }
     }
 
+    /**
+     * A secret is cached for the cache TTL, but never beyond its lease duration, if the vault returned one.
+     */
+    private long cacheValidity(Secret secret) {
+        if (secret.leaseDurationMillis() > 0) {
+            return Math.min(secretCacheTtlMillis, secret.leaseDurationMillis());
+        }
+        return secretCacheTtlMillis;
+    }
+
     private HttpUrl getSecretUrl(String key, String entryType) {
         key = URLEncoder.encode(key, StandardCharsets.UTF_8);
 
@@ -173,4 +258,7 @@ public class HashicorpVault implements Vault {
         }
         return RequestBody.create(jsonRepresentation, VaultConstants.MEDIA_TYPE_APPLICATION_JSON);
     }
+
+    private record Secret(String value, long leaseDurationMillis) {
+    }
 }
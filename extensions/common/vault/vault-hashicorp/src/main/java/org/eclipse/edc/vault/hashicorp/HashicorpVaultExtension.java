@@ -35,12 +35,17 @@ import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 import org.eclipse.edc.vault.hashicorp.spi.auth.HashicorpVaultTokenProvider;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
 public class HashicorpVaultExtension implements ServiceExtension {
     public static final String NAME = "Hashicorp Vault";
     public static final ObjectMapper MAPPER = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final int SECRET_RESOLUTION_THREADS = 4;
 
     @Inject
     private EdcHttpClient httpClient;
@@ -51,12 +56,16 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Inject
     private HashicorpVaultTokenProvider tokenProvider;
 
+    @Inject
+    private Clock clock;
+
     @Configuration
     private HashicorpVaultSettings config;
 
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
     private Monitor monitor;
     private HashicorpVaultHealthService healthService;
+    private ExecutorService secretResolutionExecutor;
 
     @Override
     public String name() {
@@ -65,7 +74,8 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
     @Provider
     public Vault hashicorpVault() {
-        return new HashicorpVault(monitor, config, httpClient, MAPPER, tokenProvider);
+        secretResolutionExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(SECRET_RESOLUTION_THREADS), "Hashicorp Vault secret resolution");
+        return new HashicorpVault(monitor, config, httpClient, MAPPER, tokenProvider, secretResolutionExecutor, clock);
     }
 
     @Provider
@@ -106,5 +116,8 @@ public class HashicorpVaultExtension implements ServiceExtension {
         if (tokenRenewalTask.isRunning()) {
             tokenRenewalTask.stop();
         }
+        if (secretResolutionExecutor != null) {
+            secretResolutionExecutor.shutdownNow();
+        }
     }
 }
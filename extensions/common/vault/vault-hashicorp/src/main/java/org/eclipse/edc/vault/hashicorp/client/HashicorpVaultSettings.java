@@ -32,6 +32,8 @@ public class HashicorpVaultSettings {
     public static final long VAULT_TOKEN_TTL_DEFAULT = 300;
     public static final boolean VAULT_HEALTH_CHECK_ENABLED_DEFAULT = true;
     public static final boolean VAULT_TOKEN_SCHEDULED_RENEW_ENABLED_DEFAULT = true;
+    public static final int VAULT_SECRET_CACHE_SIZE_DEFAULT = 1000;
+    public static final long VAULT_SECRET_CACHE_TTL_DEFAULT = 0;
 
     @Setting(description = "The URL of the Hashicorp Vault", key = "edc.vault.hashicorp.url")
     private String url;
@@ -53,6 +55,11 @@ public class HashicorpVaultSettings {
     @Setting(description = "The path of the folder that the secret is stored in, relative to VAULT_FOLDER_PATH", required = false, key = "edc.vault.hashicorp.folder")
 
     private String folderPath;
+    @Setting(description = "Time-to-live in seconds of the secrets cached in memory after they were read from the vault, capped by their lease duration. Set to 0 to disable the cache",
+            defaultValue = VAULT_SECRET_CACHE_TTL_DEFAULT + "", min = 0, key = "edc.vault.hashicorp.cache.ttl")
+    private long secretCacheTtl;
+    @Setting(description = "Maximum number of secrets cached in memory", defaultValue = VAULT_SECRET_CACHE_SIZE_DEFAULT + "", min = 0, key = "edc.vault.hashicorp.cache.size")
+    private int secretCacheSize = VAULT_SECRET_CACHE_SIZE_DEFAULT;
 
     private HashicorpVaultSettings() {
     }
@@ -97,6 +104,14 @@ public class HashicorpVaultSettings {
         return folderPath;
     }
 
+    public long secretCacheTtl() {
+        return secretCacheTtl;
+    }
+
+    public int secretCacheSize() {
+        return secretCacheSize;
+    }
+
     public static class Builder {
         private final HashicorpVaultSettings values;
 
@@ -154,6 +169,16 @@ public class HashicorpVaultSettings {
             return this;
         }
 
+        public Builder secretCacheTtl(long secretCacheTtl) {
+            values.secretCacheTtl = secretCacheTtl;
+            return this;
+        }
+
+        public Builder secretCacheSize(int secretCacheSize) {
+            values.secretCacheSize = secretCacheSize;
+            return this;
+        }
+
         public HashicorpVaultSettings build() {
             requireNonNull(values.url, "Vault url must be valid");
             requireNonNull(values.healthCheckPath, "Vault health check path must not be null");
@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.vault.hashicorp.auth.HashicorpVaultTokenProviderImpl;
+import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashicorpVaultTest {
+
+    private static final String VAULT_URL = "https://mock.url";
+    private final EdcHttpClient httpClient = mock();
+    private final AtomicLong time = new AtomicLong(0);
+    private final Clock clock = mock();
+
+    @Test
+    void resolveSecret_shouldNotCache_whenCacheTtlIsZero() throws IOException {
+        var vault = createVault(0);
+        when(httpClient.execute(any(Request.class))).thenAnswer(i -> secretResponse("value", 0));
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+
+        verify(httpClient, times(2)).execute(any(Request.class));
+    }
+
+    @Test
+    void resolveSecret_shouldCache_untilTtlExpires() throws IOException {
+        var vault = createVault(60);
+        when(httpClient.execute(any(Request.class))).thenAnswer(i -> secretResponse("value", 0));
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        time.set(59_000);
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        verify(httpClient, times(1)).execute(any(Request.class));
+
+        time.set(60_001);
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        verify(httpClient, times(2)).execute(any(Request.class));
+    }
+
+    @Test
+    void resolveSecret_shouldCapCacheValidity_byLeaseDuration() throws IOException {
+        var vault = createVault(60);
+        when(httpClient.execute(any(Request.class))).thenAnswer(i -> secretResponse("value", 10));
+
+        vault.resolveSecret("key");
+        time.set(10_001);
+        vault.resolveSecret("key");
+
+        verify(httpClient, times(2)).execute(any(Request.class));
+    }
+
+    @Test
+    void resolveSecret_shouldNotCache_whenNotFound() throws IOException {
+        var vault = createVault(60);
+        when(httpClient.execute(any(Request.class))).thenAnswer(i -> response(404, "{}"));
+
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(vault.resolveSecret("key")).isNull();
+
+        verify(httpClient, times(2)).execute(any(Request.class));
+    }
+
+    @Test
+    void storeSecret_shouldInvalidateCachedSecret() throws IOException {
+        var vault = createVault(60);
+        when(httpClient.execute(argThat(r -> r != null && r.method().equals("GET"))))
+                .thenAnswer(i -> secretResponse("old-value", 0), i -> secretResponse("new-value", 0));
+        when(httpClient.execute(argThat(r -> r != null && r.method().equals("POST")))).thenAnswer(i -> response(200, "{}"));
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("old-value");
+        vault.storeSecret("key", "new-value");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("new-value");
+    }
+
+    @Test
+    void deleteSecret_shouldInvalidateCachedSecret() throws IOException {
+        var vault = createVault(60);
+        when(httpClient.execute(argThat(r -> r != null && r.method().equals("GET"))))
+                .thenAnswer(i -> secretResponse("value", 0), i -> response(404, "{}"));
+        when(httpClient.execute(argThat(r -> r != null && r.method().equals("DELETE")))).thenAnswer(i -> response(204, ""));
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        vault.deleteSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isNull();
+    }
+
+    @Test
+    void resolveSecrets_shouldReturnFoundSecrets() throws IOException {
+        var vault = createVault(0);
+        when(httpClient.execute(argThat(r -> r != null && r.url().encodedPath().endsWith("/missing")))).thenAnswer(i -> response(404, "{}"));
+        when(httpClient.execute(argThat(r -> r != null && r.url().encodedPath().endsWith("/key1")))).thenAnswer(i -> secretResponse("value1", 0));
+        when(httpClient.execute(argThat(r -> r != null && r.url().encodedPath().endsWith("/key2")))).thenAnswer(i -> secretResponse("value2", 0));
+
+        var secrets = vault.resolveSecrets(List.of("key1", "missing", "key2"));
+
+        assertThat(secrets).isEqualTo(Map.of("key1", "value1", "key2", "value2"));
+    }
+
+    private HashicorpVault createVault(long cacheTtlSeconds) {
+        when(clock.millis()).thenAnswer(i -> time.get());
+        var settings = HashicorpVaultSettings.Builder.newInstance()
+                .url(VAULT_URL)
+                .healthCheckPath("/v1/sys/health")
+                .ttl(60)
+                .renewBuffer(10)
+                .secretPath("/v1/secret")
+                .secretCacheTtl(cacheTtlSeconds)
+                .build();
+        return new HashicorpVault(mock(Monitor.class), settings, httpClient, new ObjectMapper(),
+                new HashicorpVaultTokenProviderImpl("token"), Runnable::run, clock);
+    }
+
+    private Response secretResponse(String value, long leaseDuration) {
+        return response(200, """
+                {
+                    "lease_duration": %d,
+                    "data": {
+                        "data": {
+                            "content": "%s"
+                        }
+                    }
+                }
+                """.formatted(leaseDuration, value));
+    }
+
+    private Response response(int code, String body) {
+        return new Response.Builder()
+                .code(code)
+                .message("any")
+                .body(ResponseBody.create(body, MediaType.get("application/json")))
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("http://any").build())
+                .build();
+    }
+}
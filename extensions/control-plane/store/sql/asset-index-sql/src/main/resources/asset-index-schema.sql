@@ -19,12 +19,28 @@ CREATE TABLE IF NOT EXISTS edc_asset
 (
     asset_id           VARCHAR NOT NULL,
     created_at         BIGINT  NOT NULL,
-    properties         JSON    DEFAULT '{}',
-    private_properties JSON    DEFAULT '{}',
-    data_address       JSON    DEFAULT '{}',
+    properties         JSONB   DEFAULT '{}',
+    private_properties JSONB   DEFAULT '{}',
+    data_address       JSONB   DEFAULT '{}',
     PRIMARY KEY (asset_id)
 );
 
+-- migrate tables created with JSON columns, so that they can be indexed
+DO $$
+BEGIN
+    IF EXISTS(SELECT 1 FROM information_schema.columns
+              WHERE table_schema = current_schema() AND table_name = 'edc_asset' AND column_name = 'properties' AND data_type = 'json') THEN
+        ALTER TABLE edc_asset
+            ALTER COLUMN properties TYPE JSONB USING properties::jsonb,
+            ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+            ALTER COLUMN data_address TYPE JSONB USING data_address::jsonb;
+    END IF;
+END $$;
+
+-- containment (@>) lookups on properties and private properties
+CREATE INDEX IF NOT EXISTS asset_properties_idx ON edc_asset USING GIN (properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS asset_private_properties_idx ON edc_asset USING GIN (private_properties jsonb_path_ops);
+
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
@@ -47,6 +47,7 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
@@ -84,15 +85,19 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
-
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
-            ) {
-                var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                    .addWhereClause(statements.getNextAttemptDueFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                var leasedIds = leaseContext.withConnection(connection)
+                        .acquireLeases(statements.getContractNegotiationTable(), statements.getIdColumn(), statement);
+                if (leasedIds.isEmpty()) {
+                    return List.of();
+                }
+
+                var leasedQuerySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", leasedIds)).sortField("stateTimestamp").limit(max).build();
+                try (var stream = queryNegotiations(leasedQuerySpec, connection)) {
+                    return stream.collect(toList());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -226,6 +231,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 updatedValues.getState(),
                 updatedValues.getStateCount(),
                 updatedValues.getStateTimestamp(),
+                updatedValues.getNextAttemptAt(),
                 updatedValues.getErrorDetail(),
                 toJson(updatedValues.getContractOffers()),
                 toJson(updatedValues.getCallbackAddresses()),
@@ -257,6 +263,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getState(),
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
+                negotiation.getNextAttemptAt(),
                 negotiation.getErrorDetail(),
                 agrId,
                 toJson(negotiation.getContractOffers()),
@@ -316,17 +323,6 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return resultSet -> mapContractNegotiation(resultSet, this::extractContractAgreement);
     }
 
-    private ResultSetMapper<ContractNegotiation> contractNegotiationWithAgreementMapper(Connection connection) {
-        return (resultSet -> mapContractNegotiation(resultSet, rs -> {
-            var agreementId = rs.getString(statements.getContractAgreementIdFkColumn());
-            if (agreementId == null) {
-                return null;
-            } else {
-                return findContractAgreementInternal(connection, agreementId);
-            }
-        }));
-    }
-
     private ContractNegotiation mapContractNegotiation(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
         return ContractNegotiation.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
@@ -338,6 +334,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
                 }))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
@@ -51,6 +51,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getContractOffersColumn())
                 .jsonColumn(getCallbackAddressesColumn())
@@ -75,6 +76,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractAgreementIdFkColumn())
                 .jsonColumn(getContractOffersColumn())
@@ -50,6 +50,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     state                INTEGER DEFAULT 0 NOT NULL,
     state_count          INTEGER DEFAULT 0,
     state_timestamp      BIGINT,
+    next_attempt_at      BIGINT,
     error_detail         VARCHAR,
     agreement_id         VARCHAR
         CONSTRAINT contract_negotiation_contract_agreement_id_fk
@@ -65,6 +66,9 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
             ON DELETE SET NULL
 );
 
+-- migrate tables created before the retry delay was persisted
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT;
+
 COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement serialized as JSON';
 
 COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffer> serialized as JSON';
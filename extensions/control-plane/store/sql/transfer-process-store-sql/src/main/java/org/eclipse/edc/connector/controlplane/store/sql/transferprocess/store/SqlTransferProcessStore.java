@@ -87,15 +87,19 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNextAttemptDueFilter(), clock.millis());
 
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
-            ) {
-                var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+            try (var connection = getConnection()) {
+                var leasedIds = leaseContext.withConnection(connection)
+                        .acquireLeases(statements.getTransferProcessTableName(), statements.getIdColumn(), statement);
+                if (leasedIds.isEmpty()) {
+                    return List.of();
+                }
+
+                var leasedQuerySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", leasedIds)).sortField("stateTimestamp").limit(max).build();
+                try (var stream = executeQuery(connection, leasedQuerySpec)) {
+                    return stream.collect(Collectors.toList());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -206,6 +210,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
+                process.getNextAttemptAt(),
                 process.getUpdatedAt(),
                 toJson(process.getTraceContext()),
                 process.getErrorDetail(),
@@ -249,6 +254,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
+                process.getNextAttemptAt(),
                 process.getCreatedAt(),
                 process.getUpdatedAt(),
                 toJson(process.getTraceContext()),
@@ -280,6 +286,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
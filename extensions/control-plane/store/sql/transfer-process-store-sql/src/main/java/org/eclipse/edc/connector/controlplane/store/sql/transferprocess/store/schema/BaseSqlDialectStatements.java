@@ -68,6 +68,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
@@ -103,6 +104,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
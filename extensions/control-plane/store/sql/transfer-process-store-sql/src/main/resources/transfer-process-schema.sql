@@ -23,6 +23,7 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     state                      INTEGER           NOT NULL,
     state_count                INTEGER DEFAULT 0 NOT NULL,
     state_time_stamp           BIGINT,
+    next_attempt_at            BIGINT,
     created_at                 BIGINT            NOT NULL,
     updated_at                 BIGINT            NOT NULL,
     trace_context              JSON,
@@ -49,6 +50,9 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
                 ON DELETE SET NULL
 );
 
+-- migrate tables created before the retry delay was persisted
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT;
+
 COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
 
 COMMENT ON COLUMN edc_transfer_process.resource_manifest IS 'java ResourceManifest serialized as JSON';
@@ -41,6 +41,7 @@ import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * SQL store implementation of {@link DataPlaneInstanceStore}
@@ -57,8 +58,8 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
                                      ObjectMapper objectMapper, QueryExecutor queryExecutor, Clock clock, String leaseHolderName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
-        this.clock = clock;
         this.leaseHolderName = leaseHolderName;
+        this.clock = clock;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
@@ -99,15 +100,20 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
-
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
-            ) {
-                var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                    .addWhereClause(statements.getNextAttemptDueFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                var leasedIds = leaseContext.withConnection(connection)
+                        .acquireLeases(statements.getDataPlaneInstanceTable(), statements.getIdColumn(), statement);
+                if (leasedIds.isEmpty()) {
+                    return List.of();
+                }
+
+                var leasedQuerySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", leasedIds)).limit(max).build();
+                var leasedStatement = statements.createQuery(leasedQuerySpec);
+                try (var stream = queryExecutor.query(connection, true, this::mapResultSet, leasedStatement.getQueryAsString(), leasedStatement.getParameters())) {
+                    return stream.collect(Collectors.toList());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
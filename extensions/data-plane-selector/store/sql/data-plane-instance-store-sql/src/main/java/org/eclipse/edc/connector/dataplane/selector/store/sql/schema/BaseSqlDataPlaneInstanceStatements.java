@@ -69,6 +69,12 @@ public class BaseSqlDataPlaneInstanceStatements implements DataPlaneInstanceStat
         return new SqlQueryStatement(getSelectTemplate(), querySpec, new DataPlaneInstanceMapping(this), operatorTranslator);
     }
 
+    @Override
+    public String getNextAttemptDueFilter() {
+        // the data plane instance is stored as json, so the field is read from there
+        return format("(COALESCE((%s ->> 'nextAttemptAt')::bigint, 0) <= ?)", getDataColumn());
+    }
+
     @Override
     public String getInsertLeaseTemplate() {
         return executeStatement()
@@ -30,6 +30,7 @@ public class DataPlaneInstanceMapping extends StatefulEntityMapping {
         add("state", data);
         add("stateCount", data);
         add("stateTimestamp", data);
+        add("nextAttemptAt", data);
         add("createdAt", data);
         add("traceContext", new JsonFieldTranslator(statements.getTraceContextColumn()));
         add("errorDetail", data);
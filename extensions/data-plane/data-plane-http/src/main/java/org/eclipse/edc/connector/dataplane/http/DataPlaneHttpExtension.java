@@ -32,6 +32,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import static org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody.DEFAULT_MAX_SPOOL_SIZE;
+import static org.eclipse.edc.connector.dataplane.util.sink.ParallelSink.DEFAULT_MAX_IN_FLIGHT_PARTITIONS;
+
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
  */
@@ -40,10 +43,27 @@ import org.eclipse.edc.spi.types.TypeManager;
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PARTITION_SIZE = 5;
+    private static final int DEFAULT_SOURCE_RANGE_SIZE = 0;
+    private static final int DEFAULT_SOURCE_RANGE_CONCURRENCY = 4;
 
     @Setting(description = "Number of partitions for parallel message push in the HttpDataSink", defaultValue = DEFAULT_PARTITION_SIZE + "", key = "edc.dataplane.http.sink.partition.size")
     private int partitionSize;
 
+    @Setting(description = "Maximum number of partitions that are pushed concurrently by the HttpDataSink", defaultValue = DEFAULT_MAX_IN_FLIGHT_PARTITIONS + "", min = 1, key = "edc.dataplane.http.sink.partition.max-in-flight")
+    private int maxInFlightPartitions;
+
+    @Setting(description = "Size in bytes of the ranges the HttpDataSource fetches concurrently from origins that support range requests. 0 deactivates ranged download",
+            defaultValue = DEFAULT_SOURCE_RANGE_SIZE + "", min = 0, key = "edc.dataplane.http.source.range.size")
+    private int rangeSize;
+
+    @Setting(description = "Maximum number of ranges that are fetched concurrently by the HttpDataSource", defaultValue = DEFAULT_SOURCE_RANGE_CONCURRENCY + "", min = 1,
+            key = "edc.dataplane.http.source.range.concurrency")
+    private int rangeConcurrency;
+
+    @Setting(description = "Maximum size in bytes of the content of unknown length that the HttpDataSink spools to a temporary file to send it without chunked transfer encoding",
+            defaultValue = DEFAULT_MAX_SPOOL_SIZE + "", min = 0, key = "edc.dataplane.http.sink.non-chunked.max-spool-size")
+    private long maxSpoolSize;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -71,12 +91,12 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var httpRequestFactory = new HttpRequestFactory(maxSpoolSize);
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, rangeSize, rangeConcurrency);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, monitor, paramsProvider, httpRequestFactory);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), partitionSize, maxInFlightPartitions, monitor, paramsProvider, httpRequestFactory);
         pipelineService.registerFactory(sinkFactory);
     }
 
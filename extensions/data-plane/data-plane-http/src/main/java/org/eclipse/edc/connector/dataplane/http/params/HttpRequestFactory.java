@@ -40,6 +40,21 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final long maxSpoolSize;
+
+    public HttpRequestFactory() {
+        this(NonChunkedTransferRequestBody.DEFAULT_MAX_SPOOL_SIZE);
+    }
+
+    /**
+     * Creates the factory.
+     *
+     * @param maxSpoolSize the maximum size of content of unknown length spooled to compute the Content-Length of non-chunked requests.
+     */
+    public HttpRequestFactory(long maxSpoolSize) {
+        this.maxSpoolSize = maxSpoolSize;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -52,7 +67,7 @@ public class HttpRequestFactory {
                 .map(StringRequestBodySupplier::new)
                 .orElse(null);
 
-        return toRequest(params, createRequestBody(params, bodySupplier, params.getContentType()));
+        return toRequest(params, createRequestBody(params, bodySupplier, DataSource.Part.SIZE_UNKNOWN, params.getContentType()));
     }
 
     /**
@@ -63,7 +78,7 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, DataSource.Part part) {
-        return toRequest(params, createRequestBody(params, part::openStream, part.mediaType()));
+        return toRequest(params, createRequestBody(params, part::openStream, part.size(), part.mediaType()));
     }
 
     @NotNull
@@ -76,13 +91,16 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, String contentType) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, long size, String contentType) {
         if (bodySupplier == null || contentType == null) {
             return null;
         }
-        return params.isNonChunkedTransfer()
-                ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
-                : new ChunkedTransferRequestBody(bodySupplier, contentType);
+        if (!params.isNonChunkedTransfer()) {
+            return new ChunkedTransferRequestBody(bodySupplier, contentType);
+        }
+        return size == DataSource.Part.SIZE_UNKNOWN
+                ? new NonChunkedTransferRequestBody(bodySupplier, contentType, maxSpoolSize)
+                : new NonChunkedTransferRequestBody(bodySupplier, size, contentType);
     }
 
     /**
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Response;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Byte range returned by a partial response, as declared by its {@code Content-Range} header.
+ *
+ * @param start     the position of the first byte of the range.
+ * @param end       the position of the last byte of the range.
+ * @param totalSize the size of the whole resource.
+ */
+record ContentRange(long start, long end, long totalSize) {
+
+    static final int PARTIAL_CONTENT = 206;
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    /**
+     * Parses the content range of a partial response.
+     *
+     * @return the content range, null if the response is not a partial response or its content range is not valid.
+     */
+    @Nullable
+    static ContentRange of(Response response) {
+        if (response.code() != PARTIAL_CONTENT) {
+            return null;
+        }
+        return Optional.ofNullable(response.header(CONTENT_RANGE_HEADER))
+                .map(CONTENT_RANGE::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> new ContentRange(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3))))
+                .filter(range -> range.start() <= range.end() && range.end() < range.totalSize())
+                .orElse(null);
+    }
+}
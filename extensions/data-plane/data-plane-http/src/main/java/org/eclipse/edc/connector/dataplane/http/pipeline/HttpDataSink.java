@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -22,6 +23,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -40,7 +43,13 @@ public class HttpDataSink extends ParallelSink {
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part);
+            Request request;
+            try {
+                request = requestFactory.toRequest(params, part);
+            } catch (Exception e) {
+                monitor.severe(format("Error reading HTTP data %s to be written to endpoint %s", part.name(), params.getBaseUrl()), e);
+                return ERROR_WRITING_DATA;
+            }
             try (var response = httpClient.execute(request)) {
                 if (!response.isSuccessful()) {
                     monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
@@ -50,11 +59,23 @@ public class HttpDataSink extends ParallelSink {
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
+            } finally {
+                closeBody(request);
             }
         }
         return StreamResult.success();
     }
 
+    private void closeBody(Request request) {
+        if (request.body() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                monitor.warning(format("Error closing body of request: %s", request), e);
+            }
+        }
+    }
+
     private HttpDataSink() {
     }
 
@@ -37,6 +37,7 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final EdcHttpClient httpClient;
     private final ExecutorService executorService;
     private final int partitionSize;
+    private final int maxInFlightPartitions;
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
@@ -44,11 +45,13 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
+                               int maxInFlightPartitions,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
+        this.maxInFlightPartitions = maxInFlightPartitions;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
@@ -75,6 +78,7 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .params(requestParamsProvider.provideSinkParams(request))
                 .requestId(request.getId())
                 .partitionSize(partitionSize)
+                .maxInFlightPartitions(maxInFlightPartitions)
                 .httpClient(httpClient)
                 .executorService(executorService)
                 .monitor(monitor)
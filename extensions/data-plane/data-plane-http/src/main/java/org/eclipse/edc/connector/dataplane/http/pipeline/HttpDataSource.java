@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
 import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -24,6 +26,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +36,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.ContentRange.PARTIAL_CONTENT;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.RangedInputStream.RANGE_HEADER;
 import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET_STREAM;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
@@ -41,6 +46,11 @@ public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+    private static final String GET = "GET";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    private static final String WEAK_ETAG_PREFIX = "W/";
 
     private String name;
     private HttpRequestParams params;
@@ -48,6 +58,8 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private long rangeSize;
+    private int rangeConcurrency = 1;
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
 
     private HttpDataSource() {
@@ -59,16 +71,22 @@ public class HttpDataSource implements DataSource {
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
-            var response = httpClient.execute(request);
+            var response = execute(request);
             if (response.isSuccessful()) {
                 var body = response.body();
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
                 var stream = body.byteStream();
+                var size = body.contentLength();
+                var contentRange = firstRange(response);
+                if (contentRange != null) {
+                    stream = new RangedInputStream(stream, contentRange.end(), contentRange.totalSize(), request, validator(response), rangeSize, rangeConcurrency, httpClient);
+                    size = contentRange.totalSize();
+                }
                 responseBodyStream.set(new ResponseBodyStream(body, stream));
                 var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
-                return success(Stream.of(new HttpPart(name, stream, mediaType)));
+                return success(Stream.of(new HttpPart(name, stream, mediaType, size)));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -105,6 +123,51 @@ public class HttpDataSource implements DataSource {
         }
     }
 
+    /**
+     * Executes the request. When ranged download is enabled, only the first range is requested: if the origin returns it,
+     * the following ones get fetched concurrently by the {@link RangedInputStream}, otherwise the whole content is
+     * requested as usual. The whole content is requested as well when the origin returns an unexpected range or no
+     * validator, as without it the following ranges could belong to a different version of the resource.
+     */
+    private Response execute(Request request) throws IOException {
+        if (rangeSize <= 0 || !GET.equalsIgnoreCase(request.method())) {
+            return httpClient.execute(request);
+        }
+
+        var firstRange = request.newBuilder().header(RANGE_HEADER, format("bytes=0-%s", rangeSize - 1)).build();
+        var response = httpClient.execute(firstRange);
+        if (response.code() == RANGE_NOT_SATISFIABLE || (response.code() == PARTIAL_CONTENT && firstRange(response) == null)) {
+            response.close();
+            return httpClient.execute(request);
+        }
+        return response;
+    }
+
+    @Nullable
+    private ContentRange firstRange(Response response) {
+        if (rangeSize <= 0) {
+            return null;
+        }
+        var contentRange = ContentRange.of(response);
+        if (contentRange == null || contentRange.start() != 0 || contentRange.end() >= rangeSize) {
+            return null;
+        }
+        var isWholeResource = contentRange.end() == contentRange.totalSize() - 1;
+        return isWholeResource || validator(response) != null ? contentRange : null;
+    }
+
+    /**
+     * Returns the validator to be sent in the If-Range header, i.e. the strong entity tag or the last modification date.
+     */
+    @Nullable
+    private String validator(Response response) {
+        var etag = response.header(ETAG_HEADER);
+        if (etag != null && !etag.startsWith(WEAK_ETAG_PREFIX)) {
+            return etag;
+        }
+        return response.header(LAST_MODIFIED_HEADER);
+    }
+
     private record ResponseBodyStream(ResponseBody responseBody, InputStream stream) {
 
     }
@@ -150,6 +213,23 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Enables ranged download: content served by origins that support range requests is fetched in ranges of the
+         * given size, 0 (default) deactivates it.
+         */
+        public Builder rangeSize(long rangeSize) {
+            dataSource.rangeSize = rangeSize;
+            return this;
+        }
+
+        /**
+         * Maximum number of ranges fetched concurrently when ranged download is enabled.
+         */
+        public Builder rangeConcurrency(int rangeConcurrency) {
+            dataSource.rangeConcurrency = rangeConcurrency;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
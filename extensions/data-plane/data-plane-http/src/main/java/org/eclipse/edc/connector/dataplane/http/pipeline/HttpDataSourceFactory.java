@@ -38,12 +38,21 @@ public class HttpDataSourceFactory implements DataSourceFactory {
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final long rangeSize;
+    private final int rangeConcurrency;
 
     public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+        this(httpClient, requestParamsProvider, monitor, requestFactory, 0, 1);
+    }
+
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory,
+                                 long rangeSize, int rangeConcurrency) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.rangeSize = rangeSize;
+        this.rangeConcurrency = rangeConcurrency;
     }
 
     @Override
@@ -73,6 +82,8 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangeSize(rangeSize)
+                .rangeConcurrency(rangeConcurrency)
                 .build();
     }
 }
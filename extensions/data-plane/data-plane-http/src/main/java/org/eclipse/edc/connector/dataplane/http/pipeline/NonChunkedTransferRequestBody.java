@@ -15,47 +15,160 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 /**
  * Writes content into an OK HTTP buffered sink.
  * <p>
- * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * The extra Transfer-Encoding is not created because the Content-Length is provided upfront:
+ * <ul>
+ *     <li>when the length is known, e.g. reported by the source, the content is streamed without buffering</li>
+ *     <li>otherwise the content is read once to determine its length: it is kept in memory up to 1MB, bigger content is
+ *     spooled to a temporary file, that gets deleted when the body is closed. Content that cannot be read or that does
+ *     not fit in the maximum spool size makes the body creation fail</li>
+ * </ul>
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
+public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody implements Closeable {
 
-    private byte[] bytes;
+    public static final long DEFAULT_MAX_SPOOL_SIZE = 1024L * 1024 * 1024;
+    static final int IN_MEMORY_THRESHOLD = 1024 * 1024;
+    private static final int BUFFER_SIZE = 8192;
 
+    private final boolean oneShot;
+    private Supplier<InputStream> contentSupplier;
+    private long contentLength;
+    private Path spoolFile;
+
+    /**
+     * Creates a body whose content is streamed from the supplier as it is written.
+     *
+     * @param contentSupplier the content supplier.
+     * @param contentLength   the content length.
+     * @param contentType     the content type.
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, long contentLength, String contentType) {
+        super(contentType);
+        this.contentSupplier = contentSupplier;
+        this.contentLength = contentLength;
+        this.oneShot = true;
+    }
+
+    /**
+     * Creates a body whose content is read upfront to determine its length, spooling up to {@link #DEFAULT_MAX_SPOOL_SIZE} bytes.
+     *
+     * @param contentSupplier the content supplier.
+     * @param contentType     the content type.
+     */
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, DEFAULT_MAX_SPOOL_SIZE);
+    }
+
+    /**
+     * Creates a body whose content is read upfront to determine its length.
+     *
+     * @param contentSupplier the content supplier.
+     * @param contentType     the content type.
+     * @param maxSpoolSize    the maximum size of content that gets spooled to a temporary file.
+     * @throws UncheckedIOException if the content cannot be read or spooled.
+     * @throws EdcException         if the content exceeds the maximum spool size.
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long maxSpoolSize) {
         super(contentType);
+        this.oneShot = false;
         try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
+            var head = is.readNBytes(IN_MEMORY_THRESHOLD);
+            if (head.length < IN_MEMORY_THRESHOLD) {
+                this.contentSupplier = () -> new ByteArrayInputStream(head);
+                this.contentLength = head.length;
+            } else {
+                spoolFile = Files.createTempFile("edc-http-body-", ".tmp");
+                try (var os = Files.newOutputStream(spoolFile)) {
+                    this.contentLength = spool(head, is, os, maxSpoolSize);
+                }
+                this.contentSupplier = this::openSpoolFile;
+            }
         } catch (IOException e) {
-            //do nothing
+            close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
         }
     }
 
     @Override
     public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return oneShot;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
+        if (contentLength == 0) {
             return;
         }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+        try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+            is.transferTo(os);
         }
     }
-}
 
+    /**
+     * Deletes the temporary file the content was spooled to, if any.
+     */
+    @Override
+    public void close() {
+        if (spoolFile != null) {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException e) {
+                // do nothing
+            }
+            spoolFile = null;
+        }
+    }
+
+    private long spool(byte[] head, InputStream is, OutputStream os, long maxSpoolSize) throws IOException {
+        var size = checkSpoolSize(head.length, maxSpoolSize);
+        os.write(head);
+        var buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = is.read(buffer)) != -1) {
+            size = checkSpoolSize(size + count, maxSpoolSize);
+            os.write(buffer, 0, count);
+        }
+        return size;
+    }
+
+    private long checkSpoolSize(long size, long maxSpoolSize) {
+        if (size > maxSpoolSize) {
+            throw new EdcException("Content sent without chunked transfer encoding exceeds the maximum spool size of %s bytes".formatted(maxSpoolSize));
+        }
+        return size;
+    }
+
+    private InputStream openSpoolFile() {
+        try {
+            return Files.newInputStream(spoolFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.ContentRange.PARTIAL_CONTENT;
+
+/**
+ * Reads a resource from an origin that supports range requests, fetching the following byte ranges concurrently while
+ * the current one is read. Ranges are returned in order, so the stream content is the same as the whole resource.
+ * <p>
+ * Every range is requested with an {@code If-Range} header carrying the validator of the first response: if the
+ * resource changed in the meantime, or the origin returns any other range than the requested one, reading the stream
+ * fails instead of mixing content of different versions.
+ * <p>
+ * At most {@code concurrency} ranges are prefetched and kept in memory at the same time.
+ */
+class RangedInputStream extends InputStream {
+
+    static final String RANGE_HEADER = "Range";
+    private static final String IF_RANGE_HEADER = "If-Range";
+
+    private final EdcHttpClient httpClient;
+    private final Request request;
+    private final String validator;
+    private final long rangeSize;
+    private final long totalSize;
+    private final int concurrency;
+    private final Deque<CompletableFuture<byte[]>> prefetched = new ArrayDeque<>();
+    private long nextRangeStart;
+    private InputStream current;
+
+    /**
+     * Constructs the stream.
+     *
+     * @param firstRange    the content of the first range, already requested.
+     * @param firstRangeEnd the position of the last byte of the first range.
+     * @param totalSize     the size of the whole resource.
+     * @param request       the request of the whole resource, without range header.
+     * @param validator     the entity tag or last modification date of the first range, null only if the first range is the whole resource.
+     * @param rangeSize     the size of the ranges to be requested.
+     * @param concurrency   the maximum number of ranges prefetched at the same time.
+     * @param httpClient    the http client.
+     */
+    RangedInputStream(InputStream firstRange, long firstRangeEnd, long totalSize, Request request, String validator, long rangeSize, int concurrency, EdcHttpClient httpClient) {
+        this.current = firstRange;
+        this.nextRangeStart = firstRangeEnd + 1;
+        this.totalSize = totalSize;
+        this.request = request;
+        this.validator = validator;
+        this.rangeSize = rangeSize;
+        this.concurrency = concurrency;
+        this.httpClient = httpClient;
+        prefetch();
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (true) {
+            var value = current.read();
+            if (value != -1 || !nextRange()) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            var count = current.read(bytes, offset, length);
+            if (count != -1 || !nextRange()) {
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // ranges that are still in flight complete on their own, their responses are closed once read
+        prefetched.clear();
+        current.close();
+    }
+
+    private boolean nextRange() throws IOException {
+        var next = prefetched.poll();
+        if (next == null) {
+            return false;
+        }
+        current.close();
+        current = new ByteArrayInputStream(await(next));
+        prefetch();
+        return true;
+    }
+
+    private void prefetch() {
+        while (prefetched.size() < concurrency && nextRangeStart < totalSize) {
+            var start = nextRangeStart;
+            var end = Math.min(start + rangeSize, totalSize) - 1;
+            nextRangeStart = end + 1;
+
+            var rangeRequest = request.newBuilder()
+                    .header(RANGE_HEADER, format("bytes=%s-%s", start, end))
+                    .header(IF_RANGE_HEADER, validator)
+                    .build();
+            prefetched.add(httpClient.executeAsync(rangeRequest, List.of())
+                    .thenApply(response -> readRange(response, start, end)));
+        }
+    }
+
+    private byte[] readRange(Response response, long start, long end) {
+        try (response) {
+            var body = response.body();
+            if (response.code() != PARTIAL_CONTENT || body == null) {
+                throw new EdcException(format("Unexpected response %s - %s fetching range %s-%s of %s, the resource may have changed", response.code(), response.message(), start, end, request.url()));
+            }
+            var contentRange = ContentRange.of(response);
+            if (!new ContentRange(start, end, totalSize).equals(contentRange)) {
+                throw new EdcException(format("Received range %s fetching range %s-%s of %s", contentRange, start, end, request.url()));
+            }
+            var bytes = body.bytes();
+            if (bytes.length != end - start + 1) {
+                throw new EdcException(format("Received %s bytes fetching range %s-%s of %s", bytes.length, start, end, request.url()));
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> range) throws IOException {
+        try {
+            return range.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching range of " + request.url());
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -36,10 +36,12 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
@@ -107,6 +109,62 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Test
+    void shouldFetchRanges_whenRangeSizeIsSetAndOriginSupportsRanges() {
+        var interceptor = new RangeInterceptor("0123456789", true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(3).rangeConcurrency(2).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> {
+            assertThat(part.size()).isEqualTo(10);
+            assertThat(part.openStream()).hasContent("0123456789");
+        });
+        assertThat(interceptor.ranges).containsExactlyInAnyOrder("bytes=0-2", "bytes=3-5", "bytes=6-8", "bytes=9-9");
+        assertThat(interceptor.ifRanges).containsExactly("\"v1\"", "\"v1\"", "\"v1\"");
+    }
+
+    @Test
+    void shouldFailReading_whenResourceChangesBetweenRanges() {
+        var interceptor = new RangeInterceptor("0123456789", true, "\"v1\"", "\"v2\"");
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(3).rangeConcurrency(2).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part ->
+                assertThatThrownBy(() -> part.openStream().readAllBytes()).isInstanceOf(IOException.class));
+    }
+
+    @Test
+    void shouldReturnWholeContent_whenOriginReturnsNoValidator() {
+        var interceptor = new RangeInterceptor("0123456789", true, null, null);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(3).rangeConcurrency(2).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.openStream()).hasContent("0123456789"));
+        assertThat(interceptor.ranges).containsExactly("bytes=0-2", null);
+    }
+
+    @Test
+    void shouldReturnWholeContent_whenRangeSizeIsSetAndOriginDoesNotSupportRanges() {
+        var interceptor = new RangeInterceptor("0123456789", false);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(3).rangeConcurrency(2).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.openStream()).hasContent("0123456789"));
+        assertThat(interceptor.ranges).containsExactly("bytes=0-2");
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
@@ -165,4 +223,57 @@ class HttpDataSourceTest {
                     .orElseThrow(() -> new AssertionError("No request intercepted"));
         }
     }
+
+    static final class RangeInterceptor implements Interceptor {
+        private final List<String> ranges = new CopyOnWriteArrayList<>();
+        private final List<String> ifRanges = new CopyOnWriteArrayList<>();
+        private final String content;
+        private final boolean supportsRanges;
+        private final String firstEtag;
+        private final String nextEtag;
+
+        RangeInterceptor(String content, boolean supportsRanges) {
+            this(content, supportsRanges, "\"v1\"", "\"v1\"");
+        }
+
+        /**
+         * Serves the content with {@code firstEtag} on the first request and with {@code nextEtag} afterward, to simulate
+         * a resource that changes during the transfer.
+         */
+        RangeInterceptor(String content, boolean supportsRanges, String firstEtag, String nextEtag) {
+            this.content = content;
+            this.supportsRanges = supportsRanges;
+            this.firstEtag = firstEtag;
+            this.nextEtag = nextEtag;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Interceptor.Chain chain) {
+            var range = chain.request().header("Range");
+            var ifRange = chain.request().header("If-Range");
+            var etag = ranges.isEmpty() ? firstEtag : nextEtag;
+            ranges.add(range);
+            if (ifRange != null) {
+                ifRanges.add(ifRange);
+            }
+            var builder = new Response.Builder()
+                    .request(chain.request())
+                    .protocol(HTTP_1_1)
+                    .message("any");
+            if (etag != null) {
+                builder.header("ETag", etag);
+            }
+            if (!supportsRanges || range == null || (ifRange != null && !ifRange.equals(etag))) {
+                return builder.code(200).body(ResponseBody.create(content, MediaType.parse("text/plain"))).build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var start = Integer.parseInt(bounds[0]);
+            var end = Integer.parseInt(bounds[1]);
+            return builder.code(206)
+                    .header("Content-Range", "bytes %s-%s/%s".formatted(start, end, content.length()))
+                    .body(ResponseBody.create(content.substring(start, end + 1), MediaType.parse("text/plain")))
+                    .build();
+        }
+    }
 }
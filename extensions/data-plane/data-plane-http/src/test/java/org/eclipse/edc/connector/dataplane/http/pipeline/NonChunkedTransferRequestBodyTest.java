@@ -17,14 +17,22 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
+import org.eclipse.edc.spi.EdcException;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody.IN_MEMORY_THRESHOLD;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class NonChunkedTransferRequestBodyTest {
@@ -62,4 +70,64 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyTransfer_whenContentLengthIsKnown_shouldStreamWithoutReadingUpfront() throws IOException {
+        var content = "Test Content".getBytes();
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+        Supplier<InputStream> contentSupplier = mock();
+        when(contentSupplier.get()).thenReturn(new ByteArrayInputStream(content));
+
+        var body = new NonChunkedTransferRequestBody(contentSupplier, content.length, HttpDataAddress.OCTET_STREAM);
+
+        assertThat(body.contentLength()).isEqualTo(content.length);
+        assertThat(body.isOneShot()).isTrue();
+        verify(contentSupplier, never()).get();
+
+        body.writeTo(sink);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void verifyTransfer_whenContentExceedsInMemoryThreshold_shouldSpoolToFile() throws IOException {
+        var content = new byte[IN_MEMORY_THRESHOLD + 10];
+        content[content.length - 1] = 1;
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        try (var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM)) {
+            assertThat(body.contentLength()).isEqualTo(content.length);
+            assertThat(body.isOneShot()).isFalse();
+
+            body.writeTo(sink);
+
+            assertThat(outputStream.toByteArray()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void shouldFail_whenContentExceedsMaxSpoolSize() {
+        var content = new byte[IN_MEMORY_THRESHOLD + 10];
+
+        assertThatThrownBy(() -> new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM, IN_MEMORY_THRESHOLD))
+                .isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void shouldFail_whenContentCannotBeRead() {
+        var content = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> new NonChunkedTransferRequestBody(() -> content, HttpDataAddress.OCTET_STREAM))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("connection reset");
+    }
 }
@@ -23,6 +23,7 @@ dependencies {
     api(project(":spi:data-plane:data-plane-spi"))
 
     implementation(project(":core:common:lib:token-lib"))
+    implementation(project(":core:common:lib:util-lib"))
 
     testImplementation(project(":core:common:junit"))
 }
@@ -30,10 +30,14 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.JwtGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+
 @Extension(value = DataPlaneIamDefaultServicesExtension.NAME)
 public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Default IAM Services";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    private static final long DEFAULT_TOKEN_CACHE_VALIDITY_MILLIS = 60 * 1000L;
 
     @Setting(description = "Alias of private key used for signing tokens, retrieved from private key resolver", key = "edc.transfer.proxy.token.signer.privatekey.alias")
     private String tokenSignerPrivateKeyAlias;
@@ -41,6 +45,12 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
     @Setting(description = "Alias of public key used for verifying the tokens, retrieved from the vault", key = "edc.transfer.proxy.token.verifier.publickey.alias")
     private String tokenVerifierPublicKeyAlias;
 
+    @Setting(description = "Maximum number of resolved access tokens kept in memory. Set to 0 to disable the cache", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "", min = 0, key = "edc.dataplane.token.cache.size")
+    private int tokenCacheSize;
+
+    @Setting(description = "Maximum time in milliseconds a resolved access token is kept in memory, it is never kept after the token expiration", defaultValue = DEFAULT_TOKEN_CACHE_VALIDITY_MILLIS + "", key = "edc.dataplane.token.cache.validity")
+    private long tokenCacheValidityMillis;
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -49,6 +59,8 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
     private LocalPublicKeyService localPublicKeyService;
     @Inject
     private JwsSignerProvider jwsSignerProvider;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -68,7 +80,8 @@ public class DataPlaneIamDefaultServicesExtension implements ServiceExtension {
                 accessTokenDataStore, monitor,
                 () -> tokenSignerPrivateKeyAlias,
                 () -> tokenVerifierPublicKeyAlias,
-                tokenValidationService, localPublicKeyService);
+                tokenValidationService, localPublicKeyService,
+                tokenCacheSize, tokenCacheValidityMillis, clock);
     }
 
 }
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
@@ -31,20 +32,33 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.ConcurrentCache;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 
 /**
  * This implementation of the {@link DataPlaneAccessTokenService} uses a backing storage ({@link AccessTokenDataStore}) to keep a record of all
  * tokens it has issued. Tokens are in JWT format.
+ * <p>
+ * Resolved tokens are kept in a bounded cache, keyed by the hash of the token, for at most the configured validity and never
+ * beyond the token expiration. Cached entries are evicted when the tokens are revoked through this service, resolutions
+ * in flight at that time are not cached. Tokens revoked by other replicas are served from the cache until their entry
+ * expires.
  */
 public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTokenService {
     public static final String TOKEN_ID = "jti";
@@ -59,6 +73,10 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     private final Supplier<String> publicKeyIdSupplier;
     private final TokenValidationService tokenValidationService;
     private final PublicKeyResolver publicKeyResolver;
+    private final ConcurrentCache<String, ResolvedToken> tokenCache;
+    private final Map<String, String> loadingCacheKeys = new ConcurrentHashMap<>();
+    private final long cacheValidityMillis;
+    private final Clock clock;
 
     public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
                                                   AccessTokenDataStore accessTokenDataStore,
@@ -67,6 +85,30 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
                                                   Supplier<String> publicKeyIdSupplier,
                                                   TokenValidationService tokenValidationService,
                                                   PublicKeyResolver publicKeyResolver) {
+        this(tokenGenerationService, accessTokenDataStore, monitor, privateKeyIdSupplier, publicKeyIdSupplier,
+                tokenValidationService, publicKeyResolver, 0, 0, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs the service with a cache for the resolved tokens.
+     *
+     * @param cacheSize           the maximum number of resolved tokens that the cache can hold. Pass 0 to deactivate the cache.
+     * @param cacheValidityMillis the maximum time in milliseconds a resolved token is kept in the cache.
+     * @param clock               the {@link Clock}.
+     */
+    public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
+                                                  AccessTokenDataStore accessTokenDataStore,
+                                                  Monitor monitor,
+                                                  Supplier<String> privateKeyIdSupplier,
+                                                  Supplier<String> publicKeyIdSupplier,
+                                                  TokenValidationService tokenValidationService,
+                                                  PublicKeyResolver publicKeyResolver,
+                                                  int cacheSize,
+                                                  long cacheValidityMillis,
+                                                  Clock clock) {
+        this.tokenCache = new ConcurrentCache<>(cacheSize, cacheValidityMillis, clock);
+        this.cacheValidityMillis = cacheValidityMillis;
+        this.clock = clock;
         this.tokenGenerationService = tokenGenerationService;
         this.accessTokenDataStore = accessTokenDataStore;
         this.monitor = monitor;
@@ -123,15 +165,11 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
 
     @Override
     public Result<AccessTokenData> resolve(String token) {
-        return tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES)
-                .map(claimToken -> claimToken.getStringClaim(TOKEN_ID))
-                .compose(tokenId -> {
-                    var existingAccessToken = accessTokenDataStore.getById(tokenId);
-
-                    return existingAccessToken == null ?
-                            Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
-                            Result.success(existingAccessToken);
-                });
+        var cacheKey = hash(token);
+        var result = tokenCache.get(cacheKey, key -> load(key, token), ResolvedToken::validity).result();
+        // the resolution is cached now, a revocation will find it in the cache
+        result.onSuccess(tokenData -> loadingCacheKeys.remove(tokenData.id(), cacheKey));
+        return result;
     }
 
     @Override
@@ -148,12 +186,73 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
 
     }
 
+    /**
+     * Validates the token and reads its data from the store. The cache key is registered under the token id before
+     * reading the store, so that a revocation that happens after the read invalidates the in-flight resolution.
+     */
+    private ResolvedToken load(String cacheKey, String token) {
+        var validationResult = tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES);
+        if (validationResult.failed()) {
+            return ResolvedToken.failure(validationResult.mapEmpty());
+        }
+
+        var claimToken = validationResult.getContent();
+        var tokenId = claimToken.getStringClaim(TOKEN_ID);
+        loadingCacheKeys.put(tokenId, cacheKey);
+
+        AccessTokenData existingAccessToken;
+        try {
+            existingAccessToken = accessTokenDataStore.getById(tokenId);
+        } catch (RuntimeException e) {
+            loadingCacheKeys.remove(tokenId, cacheKey);
+            throw e;
+        }
+
+        if (existingAccessToken == null) {
+            loadingCacheKeys.remove(tokenId, cacheKey);
+            return ResolvedToken.failure(Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)));
+        }
+
+        return new ResolvedToken(Result.success(existingAccessToken), cacheValidity(claimToken));
+    }
+
     private Result<Void> deleteTokenData(AccessTokenData tokenData) {
         var result = accessTokenDataStore.deleteById(tokenData.id());
+        var loadingCacheKey = loadingCacheKeys.get(tokenData.id());
+        if (loadingCacheKey != null) {
+            tokenCache.invalidate(loadingCacheKey);
+        }
+        tokenCache.invalidateIf(cached -> cached.result().succeeded() && cached.result().getContent().id().equals(tokenData.id()));
         if (result.failed()) {
             return Result.failure(result.getFailureDetail());
         } else {
             return Result.success();
         }
     }
+
+    private long cacheValidity(ClaimToken claimToken) {
+        var expiration = claimToken.getInstantClaim(EXPIRATION_TIME);
+        if (expiration == null) {
+            return cacheValidityMillis;
+        }
+        return Math.min(cacheValidityMillis, expiration.toEpochMilli() - clock.millis());
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Outcome of a token resolution, failures are not cached.
+     */
+    private record ResolvedToken(Result<AccessTokenData> result, long validity) {
+        static ResolvedToken failure(Result<AccessTokenData> result) {
+            return new ResolvedToken(result, 0);
+        }
+    }
 }
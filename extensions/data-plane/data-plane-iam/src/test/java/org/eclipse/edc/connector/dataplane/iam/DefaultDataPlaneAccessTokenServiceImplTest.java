@@ -31,10 +31,16 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.regex.Pattern;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +50,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -157,6 +164,88 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(store).getById(eq(tokenId));
     }
 
+    @Test
+    void resolve_shouldCacheResolvedToken() {
+        var service = cachingAccessTokenService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+
+        assertThat(service.resolve("some-jwt")).isSucceeded();
+        assertThat(service.resolve("some-jwt")).isSucceeded()
+                .satisfies(atd -> Assertions.assertThat(atd.id()).isEqualTo(tokenId));
+
+        verify(tokenValidationService, times(1)).validate(eq("some-jwt"), any(), anyList());
+        verify(store, times(1)).getById(eq(tokenId));
+    }
+
+    @Test
+    void resolve_shouldNotCacheBeyondTokenExpiration() {
+        var service = cachingAccessTokenService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId)
+                .claim("exp", Date.from(Instant.now().minusSeconds(1))).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+
+        service.resolve("some-jwt");
+        service.resolve("some-jwt");
+
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
+
+    @Test
+    void resolve_shouldNotUseCache_whenTokenRevoked() {
+        var service = cachingAccessTokenService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        var tokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build());
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(tokenData).thenReturn(null);
+        when(store.query(any())).thenReturn(List.of(tokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+
+        assertThat(service.resolve("some-jwt")).isSucceeded();
+        assertThat(service.revoke("tp-id", "reason")).isSucceeded();
+        assertThat(service.resolve("some-jwt")).isFailed();
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenTokenRevokedWhileResolving() throws Exception {
+        var service = cachingAccessTokenService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        var tokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build());
+        var reading = new CountDownLatch(1);
+        var revoked = new CountDownLatch(1);
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenAnswer(invocation -> {
+            reading.countDown();
+            revoked.await();
+            return tokenData;
+        }).thenReturn(null);
+        when(store.query(any())).thenReturn(List.of(tokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+
+        var resolution = CompletableFuture.supplyAsync(() -> service.resolve("some-jwt"));
+        Assertions.assertThat(reading.await(5, SECONDS)).isTrue();
+        assertThat(service.revoke("tp-id", "reason")).isSucceeded();
+        revoked.countDown();
+
+        Assertions.assertThat(resolution).succeedsWithin(5, SECONDS);
+        assertThat(service.resolve("some-jwt")).isFailed();
+        verify(store, times(2)).getById(eq(tokenId));
+    }
+
     @Test
     void resolve_whenValidationFails() {
         var tokenId = "test-id";
@@ -239,4 +328,9 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(store, never()).deleteById(any());
 
     }
+
+    private DefaultDataPlaneAccessTokenServiceImpl cachingAccessTokenService() {
+        return new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService, store, mock(), mock(), mock(), tokenValidationService, mock(),
+                10, 60_000, Clock.systemUTC());
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.kafka;
 
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.edc.connector.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSourceFactory;
@@ -26,6 +27,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.Map;
+
+import static org.eclipse.edc.connector.dataplane.util.sink.ParallelSink.DEFAULT_MAX_IN_FLIGHT_PARTITIONS;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
@@ -33,10 +37,33 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Kafka";
 
     private static final int DEFAULT_PARTITION_SIZE = 5;
+    private static final String DEFAULT_ACKS = "all";
+    private static final int DEFAULT_LINGER_MS = 5;
+    private static final int DEFAULT_BATCH_SIZE = 16384;
+    private static final int DEFAULT_MAX_IN_FLIGHT_SENDS = 100;
 
     @Setting(description = "The partitionSize used by the kafka data sink", defaultValue = DEFAULT_PARTITION_SIZE + "", min = 1, key = "edc.dataplane.kafka.sink.partition.size")
     private int partitionSize;
 
+    @Setting(description = "Maximum number of partitions that are sent concurrently by the kafka data sink", defaultValue = DEFAULT_MAX_IN_FLIGHT_PARTITIONS + "", min = 1, key = "edc.dataplane.kafka.sink.partition.max-in-flight")
+    private int maxInFlightPartitions;
+
+    @Setting(description = "Acknowledgments required by the kafka data sink before considering a record as sent (0, 1 or all), unless set in the destination data address",
+            defaultValue = DEFAULT_ACKS, key = "edc.dataplane.kafka.sink.acks")
+    private String acks;
+
+    @Setting(description = "Time in milliseconds the kafka data sink waits for further records to batch them together, unless set in the destination data address",
+            defaultValue = DEFAULT_LINGER_MS + "", min = 0, key = "edc.dataplane.kafka.sink.linger.ms")
+    private int lingerMs;
+
+    @Setting(description = "Maximum size in bytes of a batch of records sent by the kafka data sink, unless set in the destination data address",
+            defaultValue = DEFAULT_BATCH_SIZE + "", min = 0, key = "edc.dataplane.kafka.sink.batch.size")
+    private int batchSize;
+
+    @Setting(description = "Maximum number of records awaiting acknowledgement at the same time for each transfer of the kafka data sink",
+            defaultValue = DEFAULT_MAX_IN_FLIGHT_SENDS + "", min = 1, key = "edc.dataplane.kafka.sink.max-in-flight-sends")
+    private int maxInFlightSends;
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -58,6 +85,12 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
 
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, partitionSize));
+        var producerDefaults = Map.of(
+                ProducerConfig.ACKS_CONFIG, acks,
+                ProducerConfig.LINGER_MS_CONFIG, String.valueOf(lingerMs),
+                ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(batchSize)
+        );
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, partitionSize, maxInFlightPartitions,
+                producerDefaults, maxInFlightSends));
     }
 }
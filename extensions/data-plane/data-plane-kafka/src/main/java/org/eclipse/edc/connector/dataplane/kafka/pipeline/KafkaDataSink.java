@@ -27,11 +27,25 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
-
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes every part as a record. Sends are asynchronous, so that the producer can batch records across parts
+ * according to its {@code linger.ms} and {@code batch.size} configuration, but at most {@code maxInFlightSends}
+ * records are awaiting acknowledgement at the same time.
+ * <p>
+ * The transfer completes only once all records have been acknowledged, and fails if any of them could not be delivered.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
+    static final int DEFAULT_MAX_IN_FLIGHT_SENDS = 100;
+
+    private final AtomicReference<Exception> sendFailure = new AtomicReference<>();
     private String topic;
     private Producer<String, byte[]> producer;
+    private int maxInFlightSends = DEFAULT_MAX_IN_FLIGHT_SENDS;
+    private Semaphore inFlightSends;
 
     private KafkaDataSink() {
     }
@@ -52,20 +66,61 @@ class KafkaDataSink extends ParallelSink implements Closeable {
                 .orElse(StreamResult.success());
     }
 
+    @Override
+    protected void acknowledge(List<DataSource.Part> parts) {
+        // parts are acknowledged once the broker acknowledged their record
+    }
+
+    @Override
+    protected StreamResult<Object> complete() {
+        try {
+            // waits for the acknowledgement of all the records sent
+            producer.flush();
+        } catch (RuntimeException e) {
+            return StreamResult.error("Failed to flush records to topic %s: %s".formatted(topic, e.getMessage()));
+        }
+        return sendFailureResult();
+    }
+
     private StreamResult<Object> publishPart(DataSource.Part part) {
+        if (sendFailure.get() != null) {
+            return sendFailureResult();
+        }
+
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
+            var record = new ProducerRecord<String, byte[]>(topic, null, is.readAllBytes());
+            inFlightSends.acquire();
+            try {
+                producer.send(record, (metadata, exception) -> {
+                    if (exception != null) {
+                        monitor.severe("Failed to publish part %s to topic %s".formatted(part.name(), topic), exception);
+                        sendFailure.compareAndSet(null, exception);
+                    } else {
+                        part.acknowledge();
+                    }
+                    inFlightSends.release();
+                });
+            } catch (RuntimeException e) {
+                inFlightSends.release();
+                return StreamResult.error("Failed to publish part %s to topic %s: %s".formatted(part.name(), topic, e.getMessage()));
+            }
             return StreamResult.success();
         } catch (IOException e) {
             return StreamResult.error("Failed to open part with name: " + part.name());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error("Interrupted while publishing part with name: " + part.name());
         }
     }
 
+    private StreamResult<Object> sendFailureResult() {
+        var failure = sendFailure.get();
+        if (failure == null) {
+            return StreamResult.success();
+        }
+        return StreamResult.error("Failed to publish records to topic %s: %s".formatted(topic, failure.getMessage()));
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
@@ -88,13 +143,32 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        /**
+         * Producer to be used instead of creating one from the producer properties.
+         */
+        public Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
+        public Builder maxInFlightSends(int maxInFlightSends) {
+            sink.maxInFlightSends = maxInFlightSends;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
-
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (sink.maxInFlightSends <= 0) {
+                throw new IllegalArgumentException("maxInFlightSends must be greater than 0");
+            }
+            sink.inFlightSends = new Semaphore(sink.maxInFlightSends);
+
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
         }
     }
 }
@@ -27,8 +27,11 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import static java.util.Collections.emptyMap;
+import static org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSink.DEFAULT_MAX_IN_FLIGHT_SENDS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
 
@@ -39,13 +42,31 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
     private final int partitionSize;
+    private final int maxInFlightPartitions;
+    private final Map<String, String> producerDefaults;
+    private final int maxInFlightSends;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize, int maxInFlightPartitions) {
+        this(executorService, monitor, propertiesFactory, partitionSize, maxInFlightPartitions, emptyMap(), DEFAULT_MAX_IN_FLIGHT_SENDS);
+    }
+
+    /**
+     * Constructs the factory.
+     *
+     * @param producerDefaults producer configuration applied when not overridden by the destination data address,
+     *                         e.g. {@code acks}, {@code linger.ms} and {@code batch.size}.
+     * @param maxInFlightSends maximum number of records awaiting acknowledgement at the same time for each transfer.
+     */
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize, int maxInFlightPartitions,
+                                Map<String, String> producerDefaults, int maxInFlightSends) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
         this.partitionSize = partitionSize;
+        this.maxInFlightPartitions = maxInFlightPartitions;
+        this.producerDefaults = producerDefaults;
+        this.maxInFlightSends = maxInFlightSends;
     }
 
     @Override
@@ -69,6 +90,7 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         var destination = request.getDestinationDataAddress();
         var producerProps = propertiesFactory.getProducerProperties(destination.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
+        producerDefaults.forEach(producerProps::putIfAbsent);
 
         return KafkaDataSink.Builder.newInstance()
                 .monitor(monitor)
@@ -76,7 +98,9 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
                 .partitionSize(partitionSize)
+                .maxInFlightPartitions(maxInFlightPartitions)
                 .executorService(executorService)
+                .maxInFlightSends(maxInFlightSends)
                 .build();
     }
 }
@@ -12,12 +12,15 @@
  *
  */
 
+
 package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -28,6 +31,7 @@ import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -39,6 +43,13 @@ import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Streams the records of a topic.
+ * <p>
+ * When {@code maxInFlight} is set, offsets are committed only once the sink acknowledged the records, and the assigned
+ * partitions are paused while {@code maxInFlight} records are being transferred by the sink, so that consumption
+ * follows the pace of the sink. The consumer lag is reported at every commit.
+ */
 class KafkaDataSource implements DataSource {
 
     private String name;
@@ -47,6 +58,8 @@ class KafkaDataSource implements DataSource {
     private Duration maxDuration;
     private Consumer<String, byte[]> consumer;
     private Clock clock;
+    private int maxInFlight;
+    private KafkaOffsetTracker offsetTracker;
     private final AtomicBoolean active = new AtomicBoolean(true);
 
     private KafkaDataSource() {
@@ -64,7 +77,7 @@ class KafkaDataSource implements DataSource {
                         .flatMap(p -> consumerRecords.records(p).stream())
                         .map(KafkaPart::new)
                         .map(Part.class::cast))
-                .onClose(() -> consumer.close());
+                .onClose(this::closeConsumer);
 
         return success(stream);
     }
@@ -74,6 +87,21 @@ class KafkaDataSource implements DataSource {
         return stream(spliteratorUnknownSize(new ConsumerRecordsIterator(), 0), /* not parallel */ false);
     }
 
+    private void closeConsumer() {
+        try {
+            if (offsetTracker != null) {
+                var offsets = offsetTracker.drainCommittable();
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            }
+        } catch (RuntimeException e) {
+            monitor.warning("KafkaDataSource %s failed to commit offsets on close".formatted(name), e);
+        } finally {
+            consumer.close();
+        }
+    }
+
     public static class Builder {
 
         private Properties consumerProperties;
@@ -114,20 +142,48 @@ class KafkaDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Maximum number of records transferred by the sink at the same time. When set, offsets are committed only
+         * after the sink acknowledged the records, so the auto commit of the consumer should be disabled.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            dataSource.maxInFlight = maxInFlight;
+            return this;
+        }
+
         public Builder consumerProperties(Properties consumerProperties) {
             this.consumerProperties = consumerProperties;
             return this;
         }
 
+        /**
+         * Consumer to be used instead of creating one from the consumer properties.
+         */
+        public Builder consumer(Consumer<String, byte[]> consumer) {
+            dataSource.consumer = consumer;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
             Objects.requireNonNull(topic, "topic");
-            Objects.requireNonNull(consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
+            if (dataSource.maxInFlight < 0) {
+                throw new IllegalArgumentException("maxInFlight must not be negative");
+            }
+
+            if (dataSource.consumer == null) {
+                Objects.requireNonNull(consumerProperties, "consumerProperties");
+                dataSource.consumer = new KafkaConsumer<>(consumerProperties);
+            }
 
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
+            if (dataSource.maxInFlight > 0) {
+                dataSource.offsetTracker = new KafkaOffsetTracker();
+                dataSource.consumer.subscribe(List.of(topic), dataSource.new CommittingRebalanceListener());
+            } else {
+                dataSource.consumer.subscribe(List.of(topic));
+            }
 
             return dataSource;
         }
@@ -140,9 +196,14 @@ class KafkaDataSource implements DataSource {
     private class KafkaPart implements Part {
 
         private final ConsumerRecord<String, byte[]> consumerRecord;
+        private final AtomicBoolean opened = new AtomicBoolean();
+        private final AtomicBoolean acknowledged = new AtomicBoolean();
 
         private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord) {
             this.consumerRecord = consumerRecord;
+            if (offsetTracker != null) {
+                offsetTracker.track(topicPartition(), consumerRecord.offset());
+            }
         }
 
         @Override
@@ -152,8 +213,22 @@ class KafkaDataSource implements DataSource {
 
         @Override
         public InputStream openStream() {
+            if (offsetTracker != null && opened.compareAndSet(false, true)) {
+                offsetTracker.opened();
+            }
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public void acknowledge() {
+            if (offsetTracker != null && acknowledged.compareAndSet(false, true)) {
+                offsetTracker.acknowledge(topicPartition(), consumerRecord.offset(), opened.get());
+            }
+        }
+
+        private TopicPartition topicPartition() {
+            return new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
@@ -167,7 +242,7 @@ class KafkaDataSource implements DataSource {
 
         @Override
         public boolean hasNext() {
-            var isMaxDurationReached = clock.instant().isAfter(streamEnd);
+            var isMaxDurationReached = isMaxDurationReached();
             if (isMaxDurationReached) {
                 debug("max duration reached");
             }
@@ -178,14 +253,70 @@ class KafkaDataSource implements DataSource {
         public ConsumerRecords<String, byte[]> next() {
             ConsumerRecords<String, byte[]> records;
             do {
+                if (offsetTracker != null) {
+                    applyBackpressure();
+                    commitAcknowledged();
+                }
                 records = consumer.poll(pollDuration);
-            } while (active.get() && records.isEmpty());
+            } while (active.get() && records.isEmpty() && !isMaxDurationReached());
 
             return records;
         }
 
+        private void applyBackpressure() {
+            if (offsetTracker.inTransfer() >= maxInFlight) {
+                if (consumer.paused().isEmpty()) {
+                    debug("pauses consumption, %s records are being transferred".formatted(maxInFlight));
+                }
+                consumer.pause(consumer.assignment());
+            } else if (!consumer.paused().isEmpty()) {
+                debug("resumes consumption");
+                consumer.resume(consumer.paused());
+            }
+        }
+
+        private void commitAcknowledged() {
+            var offsets = offsetTracker.drainCommittable();
+            if (offsets.isEmpty()) {
+                return;
+            }
+            consumer.commitAsync(offsets, (committed, exception) -> {
+                if (exception != null) {
+                    monitor.warning("KafkaDataSource %s failed to commit offsets %s".formatted(name, committed), exception);
+                }
+            });
+            debug("committed offsets %s, lag: %s".formatted(offsets, lag()));
+        }
+
+        private long lag() {
+            return consumer.assignment().stream()
+                    .mapToLong(partition -> consumer.currentLag(partition).orElse(0))
+                    .sum();
+        }
+
+        private boolean isMaxDurationReached() {
+            return clock.instant().isAfter(streamEnd);
+        }
+
         private void debug(String message) {
             monitor.debug(String.format("KafkaDataSource %s %s", name, message));
         }
     }
+
+    private class CommittingRebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            var offsets = offsetTracker.drainCommittable();
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+            offsetTracker.forget(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // consumption starts from the committed offsets
+        }
+    }
 }
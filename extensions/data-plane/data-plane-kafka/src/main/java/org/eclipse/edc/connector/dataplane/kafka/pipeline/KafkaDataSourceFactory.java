@@ -34,6 +34,7 @@ import java.util.Optional;
 
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_DURATION;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_IN_FLIGHT;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.NAME;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.POLL_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
@@ -90,6 +91,13 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .map(Duration::parse)
                 .orElse(DEFAULT_POLL_DURATION);
 
+        var maxInFlight = Optional.ofNullable(source.getStringProperty(MAX_IN_FLIGHT))
+                .map(Integer::parseInt)
+                .orElse(0);
+        if (maxInFlight > 0) {
+            consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         return KafkaDataSource.Builder.newInstance()
                 .monitor(monitor)
                 .clock(clock)
@@ -97,6 +105,7 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .name(name)
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
+                .maxInFlight(maxInFlight)
                 .consumerProperties(consumerProps)
                 .build();
     }
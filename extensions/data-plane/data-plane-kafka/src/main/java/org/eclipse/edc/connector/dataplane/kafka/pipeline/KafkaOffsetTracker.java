@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Tracks the records handed to the sink, to determine which offsets can be committed: the offset of a partition moves
+ * forward only when all the records before it have been acknowledged.
+ * <p>
+ * Also counts the records that are being transferred by the sink, i.e. opened but not acknowledged yet.
+ */
+class KafkaOffsetTracker {
+
+    private final Map<TopicPartition, NavigableSet<Long>> pending = new HashMap<>();
+    private final Map<TopicPartition, Long> lastTracked = new HashMap<>();
+    private final Map<TopicPartition, Long> committable = new HashMap<>();
+    private int inTransfer;
+
+    synchronized void track(TopicPartition partition, long offset) {
+        pending.computeIfAbsent(partition, p -> new TreeSet<>()).add(offset);
+        lastTracked.merge(partition, offset, Math::max);
+    }
+
+    synchronized void opened() {
+        inTransfer++;
+    }
+
+    synchronized void acknowledge(TopicPartition partition, long offset, boolean opened) {
+        if (opened) {
+            inTransfer--;
+        }
+        var offsets = pending.get(partition);
+        if (offsets == null || !offsets.remove(offset)) {
+            return;
+        }
+        if (!offsets.isEmpty() && offsets.first() < offset) {
+            // a previous record is still in transfer
+            return;
+        }
+        var next = offsets.isEmpty() ? lastTracked.get(partition) + 1 : offsets.first();
+        committable.merge(partition, next, Math::max);
+    }
+
+    synchronized int inTransfer() {
+        return inTransfer;
+    }
+
+    /**
+     * Returns the offsets that became committable since the last call.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> drainCommittable() {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        committable.forEach((partition, offset) -> offsets.put(partition, new OffsetAndMetadata(offset)));
+        committable.clear();
+        return offsets;
+    }
+
+    /**
+     * Stops tracking the partitions, e.g. because they got assigned to another consumer.
+     */
+    synchronized void forget(Collection<TopicPartition> partitions) {
+        partitions.forEach(partition -> {
+            pending.remove(partition);
+            lastTracked.remove(partition);
+            committable.remove(partition);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final DataSource dataSource = mock();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldPublishEveryPart() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts(3)));
+
+        var result = createSink(producer, 10).transfer(dataSource);
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(r -> assertThat(r).isSucceeded());
+        assertThat(producer.history()).hasSize(3).allSatisfy(record -> assertThat(record.topic()).isEqualTo("topic"));
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        when(dataSource.openPartStream()).thenReturn(StreamResult.success(parts(2)));
+
+        var result = createSink(producer, 1).transfer(dataSource);
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        assertThat(result).isNotDone();
+        producer.errorNext(new RuntimeException("broker unavailable"));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(r -> {
+            assertThat(r).isFailed();
+            assertThat(r.getFailureDetail()).contains("broker unavailable");
+        });
+    }
+
+    private KafkaDataSink createSink(MockProducer<String, byte[]> producer, int maxInFlightSends) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .monitor(mock(Monitor.class))
+                .executorService(executorService)
+                .partitionSize(1)
+                .maxInFlightPartitions(2)
+                .topic("topic")
+                .producer(producer)
+                .maxInFlightSends(maxInFlightSends)
+                .build();
+    }
+
+    private Stream<DataSource.Part> parts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new InputStreamDataSource("part-" + i, new ByteArrayInputStream(("content-" + i).getBytes())));
+    }
+}
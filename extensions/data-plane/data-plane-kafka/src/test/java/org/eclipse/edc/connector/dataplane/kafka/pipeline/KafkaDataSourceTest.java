@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    @BeforeEach
+    void setUp() {
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+    }
+
+    @Test
+    void shouldCommitOffsets_onlyWhenRecordsAreAcknowledged() {
+        var source = createSource(10);
+        consumer.rebalance(List.of(partition));
+        addRecords(0, 3);
+
+        var iterator = source.openPartStream().getContent().iterator();
+        iterator.next();
+        var second = iterator.next();
+        var third = iterator.next();
+
+        second.acknowledge();
+        third.acknowledge();
+        addRecords(3, 1);
+        iterator.next();
+
+        assertThat(consumer.committed(Set.of(partition)).get(partition)).isNull();
+    }
+
+    @Test
+    void shouldCommitOffsetsUpToFirstNotAcknowledgedRecord() {
+        var source = createSource(10);
+        consumer.rebalance(List.of(partition));
+        addRecords(0, 3);
+
+        var iterator = source.openPartStream().getContent().iterator();
+        var first = iterator.next();
+        iterator.next();
+        var third = iterator.next();
+
+        first.acknowledge();
+        third.acknowledge();
+        addRecords(3, 1);
+        iterator.next();
+
+        assertThat(consumer.committed(Set.of(partition)).get(partition).offset()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPausePartitions_whenMaxInFlightRecordsAreTransferred() {
+        var source = createSource(1);
+        consumer.rebalance(List.of(partition));
+        addRecords(0, 1);
+
+        var iterator = source.openPartStream().getContent().iterator();
+        var first = iterator.next();
+        first.openStream();
+
+        var pausedOnPoll = new AtomicReference<Set<TopicPartition>>();
+        consumer.schedulePollTask(() -> {
+            pausedOnPoll.set(consumer.paused());
+            first.acknowledge();
+            addRecords(1, 1);
+        });
+
+        var second = iterator.next();
+
+        assertThat(pausedOnPoll.get()).containsExactly(partition);
+        assertThat(consumer.paused()).isEmpty();
+        assertThat(second.openStream()).hasContent("record-1");
+    }
+
+    private KafkaDataSource createSource(int maxInFlight) {
+        return KafkaDataSource.Builder.newInstance()
+                .name("name")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .pollDuration(Duration.ofMillis(10))
+                .maxInFlight(maxInFlight)
+                .consumer(consumer)
+                .build();
+    }
+
+    private void addRecords(int firstOffset, int count) {
+        for (var offset = firstOffset; offset < firstOffset + count; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, ("record-" + offset).getBytes()));
+        }
+    }
+}
@@ -45,6 +45,7 @@ import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
@@ -62,8 +63,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                              String leaseHolderName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
-        this.clock = clock;
         this.leaseHolderName = leaseHolderName;
+        this.clock = clock;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
@@ -84,15 +85,20 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
-
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
-            ) {
-                var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                    .addWhereClause(statements.getNextAttemptDueFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                var leasedIds = leaseContext.withConnection(connection)
+                        .acquireLeases(statements.getDataPlaneTable(), statements.getIdColumn(), statement);
+                if (leasedIds.isEmpty()) {
+                    return List.of();
+                }
+
+                var leasedQuerySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", leasedIds)).sortField("stateTimestamp").limit(max).build();
+                var leasedStatement = statements.createQuery(leasedQuerySpec);
+                try (var stream = queryExecutor.query(connection, true, this::mapDataFlow, leasedStatement.getQueryAsString(), leasedStatement.getParameters())) {
+                    return stream.collect(Collectors.toList());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -135,6 +141,20 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public StoreResult<Integer> renewFlowLeases(String runtimeId, long updatedBefore) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var renewed = queryExecutor.execute(connection, statements.getRenewFlowLeasesTemplate(),
+                        now, now, runtimeId, STARTED.code(), updatedBefore, now);
+                return StoreResult.success(renewed);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -144,6 +164,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.getUpdatedAt(),
                 dataFlow.getStateCount(),
                 dataFlow.getStateTimestamp(),
+                dataFlow.getNextAttemptAt(),
                 toJson(dataFlow.getTraceContext()),
                 dataFlow.getErrorDetail(),
                 Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
@@ -163,6 +184,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.getUpdatedAt(),
                 dataFlow.getStateCount(),
                 dataFlow.getStateTimestamp(),
+                dataFlow.getNextAttemptAt(),
                 toJson(dataFlow.getTraceContext()),
                 dataFlow.getErrorDetail(),
                 Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
@@ -182,6 +204,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
@@ -38,6 +38,7 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getUpdatedAtColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getCallbackAddressColumn())
@@ -57,6 +58,7 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .column(getUpdatedAtColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getCallbackAddressColumn())
@@ -69,6 +71,13 @@ public class BaseSqlDataFlowStatements implements DataFlowStatements {
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
+    @Override
+    public String getRenewFlowLeasesTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s = ? AND %s < ? AND %s;",
+                getDataPlaneTable(), getUpdatedAtColumn(), getStateTimestampColumn(),
+                getRuntimeIdColumn(), getStateColumn(), getUpdatedAtColumn(), getNotLeasedFilter());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getDataPlaneTable());
@@ -64,6 +64,15 @@ public interface DataFlowStatements extends StatefulEntityStatements, LeaseState
 
     String getUpdateTemplate();
 
+    /**
+     * Statement that renews the flow lease of the started data flows owned by a runtime that are not leased.
+     * Parameters are the new update timestamp, the new state timestamp, the runtime id, the state, the update timestamp
+     * before which the data flows get renewed and the current time, used by the not leased filter.
+     *
+     * @return the statement.
+     */
+    String getRenewFlowLeasesTemplate();
+
     String getSelectTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     updated_at           BIGINT  NOT NULL            ,
     state_count          INTEGER DEFAULT 0 NOT NULL,
     state_time_stamp     BIGINT,
+    next_attempt_at      BIGINT,
     trace_context        JSON,
     error_detail         VARCHAR,
     callback_address     VARCHAR,
@@ -36,6 +37,9 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     runtime_id           VARCHAR
 );
 
+-- migrate tables created before the retry delay was persisted
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT;
+
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
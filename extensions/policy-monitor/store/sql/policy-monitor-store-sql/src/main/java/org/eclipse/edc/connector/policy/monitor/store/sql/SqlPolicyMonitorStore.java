@@ -54,8 +54,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                                  QueryExecutor queryExecutor, String leaseHolderName) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
-        this.clock = clock;
         this.leaseHolderName = leaseHolderName;
+        this.clock = clock;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
@@ -76,15 +76,20 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).sortField("stateTimestamp").limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
-
-            try (
-                    var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
-            ) {
-                var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                    .addWhereClause(statements.getNextAttemptDueFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                var leasedIds = leaseContext.withConnection(connection)
+                        .acquireLeases(statements.getPolicyMonitorTable(), statements.getIdColumn(), statement);
+                if (leasedIds.isEmpty()) {
+                    return List.of();
+                }
+
+                var leasedQuerySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", leasedIds)).sortField("stateTimestamp").limit(max).build();
+                var leasedStatement = statements.createQuery(leasedQuerySpec);
+                try (var stream = queryExecutor.query(connection, true, this::mapEntry, leasedStatement.getQueryAsString(), leasedStatement.getParameters())) {
+                    return stream.collect(Collectors.toList());
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -145,6 +150,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getUpdatedAt(),
                 entry.getStateCount(),
                 entry.getStateTimestamp(),
+                entry.getNextAttemptAt(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId()
@@ -158,6 +164,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getUpdatedAt(),
                 entry.getStateCount(),
                 entry.getStateTimestamp(),
+                entry.getNextAttemptAt(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
@@ -171,6 +178,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
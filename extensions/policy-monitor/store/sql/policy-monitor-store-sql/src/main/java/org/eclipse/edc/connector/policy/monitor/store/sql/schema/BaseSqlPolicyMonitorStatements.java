@@ -37,6 +37,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .column(getUpdatedAtColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
@@ -50,6 +51,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .column(getUpdatedAtColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getNextAttemptAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
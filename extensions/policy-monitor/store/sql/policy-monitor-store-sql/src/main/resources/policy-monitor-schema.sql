@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
     updated_at           BIGINT  NOT NULL            ,
     state_count          INTEGER DEFAULT 0 NOT NULL,
     state_time_stamp     BIGINT,
+    next_attempt_at      BIGINT,
     trace_context        JSON,
     error_detail         VARCHAR,
     lease_id             VARCHAR
@@ -31,6 +32,8 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
     contract_id          VARCHAR
 );
 
+-- migrate tables created before the retry delay was persisted
+ALTER TABLE edc_policy_monitor ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT;
 
 -- This will help to identify states that need to be transitioned without a table scan when the entries grow
 CREATE INDEX IF NOT EXISTS policy_monitor_state ON edc_policy_monitor (state,state_time_stamp);
\ No newline at end of file
@@ -18,6 +18,10 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Provides secrets such as certificates and keys to the runtime.
  */
@@ -33,6 +37,24 @@ public interface Vault {
     @Nullable
     String resolveSecret(String key);
 
+    /**
+     * Resolve the secrets for the given keys. Implementations backed by a remote service should override this method
+     * to resolve the keys concurrently or in a single call, the default implementation resolves them one by one.
+     *
+     * @param keys the keys
+     * @return the secrets mapped by their key. Keys that were not found are not contained in the map.
+     */
+    default Map<String, String> resolveSecrets(Collection<String> keys) {
+        var secrets = new HashMap<String, String>();
+        for (var key : keys) {
+            var secret = resolveSecret(key);
+            if (secret != null) {
+                secrets.put(key, secret);
+            }
+        }
+        return secrets;
+    }
+
     /**
      * Saves a secret.
      *
@@ -28,4 +28,12 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * Signals the manager that there could be new entities to be processed, so it doesn't have to wait for the next
+     * polling iteration.
+     */
+    default void wakeup() {
+
+    }
 }
@@ -33,6 +33,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected int state;
     protected int stateCount;
     protected long stateTimestamp;
+    protected long nextAttemptAt;
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
@@ -52,6 +53,16 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return stateTimestamp;
     }
 
+    /**
+     * Returns the timestamp before which the entity should not be processed, e.g. because it is waiting for a retry
+     * delay to pass. It is reset when the entity transitions to another state.
+     *
+     * @return the next attempt timestamp in milliseconds, 0 if the entity can be processed right away.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
     @Override
     public Map<String, String> getTraceContext() {
         return Collections.unmodifiableMap(traceContext);
@@ -73,6 +84,10 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         this.pending = pending;
     }
 
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     /**
      * Sets the state timestamp to the clock time.
      *
@@ -92,6 +107,9 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     public abstract String stateAsString();
 
     protected void transitionTo(int targetState) {
+        if (state != targetState) {
+            nextAttemptAt = 0;
+        }
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
         updateStateTimestamp();
@@ -105,6 +123,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .state(state)
                 .stateCount(stateCount)
                 .stateTimestamp(stateTimestamp)
+                .nextAttemptAt(nextAttemptAt)
                 .updatedAt(updatedAt)
                 .traceContext(traceContext)
                 .errorDetail(errorDetail)
@@ -141,6 +160,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B nextAttemptAt(long value) {
+            entity.nextAttemptAt = value;
+            return self();
+        }
+
         public B errorDetail(String errorDetail) {
             entity.errorDetail = errorDetail;
             return self();
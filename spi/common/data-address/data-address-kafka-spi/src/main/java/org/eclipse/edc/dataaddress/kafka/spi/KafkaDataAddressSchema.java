@@ -66,4 +66,12 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = EDC_NAMESPACE + "maxDuration";
+
+    /**
+     * Maximum number of records that are transferred by the sink at the same time.
+     * <p>
+     * This parameter is optional. When provided, the consumption is paused while that many records are being transferred,
+     * and offsets are committed only after the sink acknowledged the records, instead of being auto-committed.
+     */
+    String MAX_IN_FLIGHT = EDC_NAMESPACE + "maxInFlight";
 }
@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -52,6 +53,48 @@ public interface AssetIndex extends DataAddressResolver {
      */
     Stream<Asset> queryAssets(QuerySpec querySpec);
 
+    /**
+     * Finds all assets that are covered by a specific {@link QuerySpec} and that match at least one of the passed
+     * selectors. A selector matches an asset when all of its criteria are satisfied, an empty selector matches every asset.
+     * The sort, offset and limit of the {@link QuerySpec} are applied to the assets that match.
+     * <p>
+     * The default implementation runs a query for every selector and merges the results in memory. When a sort field is
+     * set, the matching assets are then fetched again by id with a single sorted query. Implementors should override it
+     * to evaluate the whole query at once.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @param selectors the selectors, e.g. the asset selectors of a set of contract definitions.
+     * @return A potentially empty collection of {@link Asset}, never null.
+     */
+    default Stream<Asset> queryAssets(QuerySpec querySpec, List<List<Criterion>> selectors) {
+        var ids = new HashSet<String>();
+        var matching = selectors.stream()
+                .map(selector -> QuerySpec.Builder.newInstance()
+                        .filter(querySpec.getFilterExpression())
+                        .filter(selector)
+                        .offset(0)
+                        .limit(Integer.MAX_VALUE)
+                        .build())
+                .flatMap(this::queryAssets)
+                .filter(asset -> ids.add(asset.getId()));
+
+        if (querySpec.getSortField() == null) {
+            return matching.skip(querySpec.getOffset()).limit(querySpec.getLimit());
+        }
+
+        var matchingIds = matching.map(Asset::getId).toList();
+        if (matchingIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return queryAssets(QuerySpec.Builder.newInstance()
+                .filter(new Criterion(Asset.PROPERTY_ID, "in", matchingIds))
+                .sortField(querySpec.getSortField())
+                .sortOrder(querySpec.getSortOrder())
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .build());
+    }
+
     /**
      * Fetches the {@link Asset} with the given ID from the metadata backend.
      *
@@ -469,6 +469,69 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class QueryAssetsWithSelectors {
+
+        @Test
+        void shouldReturnAssetsMatchingAnySelector() {
+            range(0, 5).mapToObj(i -> createAssetBuilder("id" + i).property("version", "1." + i).build())
+                    .forEach(getAssetIndex()::create);
+            var selectors = List.of(
+                    List.of(criterion("version", "=", "1.1")),
+                    List.of(criterion("version", "=", "1.3"), criterion(Asset.PROPERTY_ID, "=", "id3")),
+                    List.of(criterion("version", "=", "1.4"), criterion(Asset.PROPERTY_ID, "=", "id0"))
+            );
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), selectors);
+
+            assertThat(assets).map(Asset::getId).containsExactlyInAnyOrder("id1", "id3");
+        }
+
+        @Test
+        void shouldApplyQuerySpecFilterAndPagination() {
+            range(0, 10).mapToObj(i -> createAssetBuilder("id" + i).property("even", i % 2 == 0 ? "yes" : "no").build())
+                    .forEach(getAssetIndex()::create);
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(criterion("even", "=", "yes"))
+                    .sortField(Asset.PROPERTY_ID)
+                    .offset(1)
+                    .limit(2)
+                    .build();
+
+            var assets = getAssetIndex().queryAssets(querySpec, List.of(List.of(criterion("even", "=", "yes")), List.of()));
+
+            assertThat(assets).map(Asset::getId).containsExactly("id2", "id4");
+        }
+
+        @Test
+        void shouldSortAssets_whenSortFieldIsSet() {
+            range(0, 6).mapToObj(i -> createAssetBuilder("id" + i).property("version", "1." + i % 3).build())
+                    .forEach(getAssetIndex()::create);
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .sortField(Asset.PROPERTY_ID)
+                    .sortOrder(SortOrder.DESC)
+                    .limit(3)
+                    .build();
+            var selectors = List.of(
+                    List.of(criterion("version", "=", "1.0")),
+                    List.of(criterion("version", "=", "1.2"))
+            );
+
+            var assets = getAssetIndex().queryAssets(querySpec, selectors);
+
+            assertThat(assets).map(Asset::getId).containsExactly("id5", "id3", "id2");
+        }
+
+        @Test
+        void shouldReturnNoAssets_whenNoSelectors() {
+            getAssetIndex().create(createAsset("test-asset"));
+
+            var assets = getAssetIndex().queryAssets(QuerySpec.none(), List.of());
+
+            assertThat(assets).isEmpty();
+        }
+    }
+
     @Nested
     class FindById {
         @Test
@@ -798,6 +798,20 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(list1).isNotEqualTo(list2).doesNotContainAnyElementsOf(list2);
         }
 
+        @Test
+        void shouldNotReturnItemsWaitingForNextAttempt() {
+            var all = range(0, 4)
+                    .mapToObj(i -> createNegotiation("id" + i))
+                    .toList();
+            var waiting = all.stream().limit(2).peek(n -> n.setNextAttemptAt(clock.millis() + 60_000)).toList();
+            all.forEach(getContractNegotiationStore()::save);
+
+            assertThat(getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code())))
+                    .hasSize(2)
+                    .extracting(ContractNegotiation::getId)
+                    .doesNotContainAnyElementsOf(waiting.stream().map(ContractNegotiation::getId).toList());
+        }
+
         @Test
         void shouldLeaseOrderByStateTimestamp() {
 
@@ -300,6 +300,21 @@ public abstract class TransferProcessStoreTestBase {
             assertThat(list1).isNotEqualTo(list2).doesNotContainAnyElementsOf(list2);
         }
 
+        @Test
+        void shouldNotReturnItemsWaitingForNextAttempt() {
+            var state = STARTED;
+            var all = range(0, 4)
+                    .mapToObj(i -> createTransferProcess("id" + i, state))
+                    .toList();
+            var waiting = all.stream().limit(2).peek(tp -> tp.setNextAttemptAt(clock.millis() + 60_000)).toList();
+            all.forEach(getTransferProcessStore()::save);
+
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(state.code())))
+                    .hasSize(2)
+                    .extracting(TransferProcess::getId)
+                    .doesNotContainAnyElementsOf(waiting.stream().map(TransferProcess::getId).toList());
+        }
+
         @Test
         void shouldLeaseOrderByStateTimestamp() {
 
@@ -62,6 +62,19 @@ public interface DataSource extends AutoCloseable {
             return "application/octet-stream";
         }
 
+        /**
+         * Called by the sink once the part content has been durably transferred. Sources that can replay their content,
+         * e.g. message brokers, can use it to move their committed position forward.
+         * <p>
+         * Every sink must call it, at most once per part and from any thread, after the part content has been written
+         * to the destination. It must not be called for parts whose transfer failed. Sources may limit the number of
+         * parts that are not acknowledged yet and stop producing parts until earlier ones are acknowledged, so a sink
+         * that never acknowledges can stall them.
+         */
+        default void acknowledge() {
+            // no-op
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
@@ -16,10 +16,37 @@ package org.eclipse.edc.connector.dataplane.spi.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.result.StoreResult;
+
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 /**
  * Stores states of data flow requests.
  */
 public interface DataPlaneStore extends StateEntityStore<DataFlow> {
 
+    /**
+     * Renews the flow lease of all the STARTED data flows owned by the runtime that were last updated before the given
+     * timestamp, by setting their update timestamp to the current time. Data flows that are leased are skipped.
+     * <p>
+     * The default implementation leases and saves the data flows one by one, stores should override it with a single
+     * operation when they can.
+     *
+     * @param runtimeId the id of the runtime that owns the data flows.
+     * @param updatedBefore the timestamp before which the data flows were last updated.
+     * @return the number of renewed data flows.
+     */
+    default StoreResult<Integer> renewFlowLeases(String runtimeId, long updatedBefore) {
+        var toBeRenewed = nextNotLeased(Integer.MAX_VALUE, hasState(STARTED.code()),
+                new Criterion("runtimeId", "=", runtimeId), new Criterion("updatedAt", "<", updatedBefore));
+        toBeRenewed.forEach(dataFlow -> {
+            dataFlow.updateStateTimestamp();
+            dataFlow.setModified();
+            save(dataFlow);
+        });
+        return StoreResult.success(toBeRenewed.size());
+    }
+
 }
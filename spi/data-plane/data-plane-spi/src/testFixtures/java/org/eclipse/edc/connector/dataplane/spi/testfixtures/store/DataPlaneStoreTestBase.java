@@ -31,9 +31,11 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
@@ -172,6 +174,20 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(thirdLeased).hasSize(1);
         }
 
+        @Test
+        void shouldNotReturnItemsWaitingForNextAttempt() {
+            var all = range(0, 4)
+                    .mapToObj(i -> createDataFlow("id-" + i, RECEIVED))
+                    .toList();
+            var waiting = all.stream().limit(2).peek(f -> f.setNextAttemptAt(System.currentTimeMillis() + 60_000)).toList();
+            all.forEach(getStore()::save);
+
+            assertThat(getStore().nextNotLeased(10, hasState(RECEIVED.code())))
+                    .hasSize(2)
+                    .extracting(DataFlow::getId)
+                    .doesNotContainAnyElementsOf(waiting.stream().map(Entity::getId).toList());
+        }
+
         @Test
         void shouldLeaseOrderByStateTimestamp() {
 
@@ -257,6 +273,39 @@ public abstract class DataPlaneStoreTestBase {
         }
     }
 
+    @Nested
+    class RenewFlowLeases {
+
+        @Test
+        void shouldRenewStartedFlowsOwnedByRuntime_whenUpdatedBeforeTimestamp() {
+            var toBeRenewed = createDataFlowBuilder().runtimeId("runtime1").updatedAt(1000).build();
+            var otherRuntime = createDataFlowBuilder().runtimeId("runtime2").updatedAt(1000).build();
+            var notStarted = createDataFlowBuilder().runtimeId("runtime1").state(COMPLETED.code()).updatedAt(1000).build();
+            var recentlyUpdated = createDataFlowBuilder().runtimeId("runtime1").updatedAt(3000).build();
+            Stream.of(toBeRenewed, otherRuntime, notStarted, recentlyUpdated).forEach(getStore()::save);
+
+            var result = getStore().renewFlowLeases("runtime1", 2000);
+
+            assertThat(result).isSucceeded().isEqualTo(1);
+            assertThat(getStore().findById(toBeRenewed.getId())).extracting(DataFlow::getUpdatedAt, LONG).isGreaterThan(3000);
+            assertThat(getStore().findById(otherRuntime.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(1000L);
+            assertThat(getStore().findById(notStarted.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(1000L);
+            assertThat(getStore().findById(recentlyUpdated.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(3000L);
+        }
+
+        @Test
+        void shouldNotRenewLeasedFlows() {
+            var dataFlow = createDataFlowBuilder().runtimeId("runtime1").updatedAt(1000).build();
+            getStore().save(dataFlow);
+            leaseEntity(dataFlow.getId(), "other owner");
+
+            var result = getStore().renewFlowLeases("runtime1", 2000);
+
+            assertThat(result).isSucceeded().isEqualTo(0);
+            assertThat(getStore().findById(dataFlow.getId())).extracting(DataFlow::getUpdatedAt).isEqualTo(1000L);
+        }
+    }
+
     private DataFlow createDataFlow(String id, DataFlowStates state) {
         return createDataFlowBuilder()
                 .id(id).state(state.code())
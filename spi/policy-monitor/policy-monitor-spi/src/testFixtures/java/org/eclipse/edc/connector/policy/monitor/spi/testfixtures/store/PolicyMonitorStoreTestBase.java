@@ -173,6 +173,20 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(thirdLeased).hasSize(1);
         }
 
+        @Test
+        void shouldNotReturnItemsWaitingForNextAttempt() {
+            var all = range(0, 4)
+                    .mapToObj(i -> createPolicyMonitorEntry("id-" + i, STARTED))
+                    .toList();
+            var waiting = all.stream().limit(2).peek(e -> e.setNextAttemptAt(System.currentTimeMillis() + 60_000)).toList();
+            all.forEach(getStore()::save);
+
+            assertThat(getStore().nextNotLeased(10, hasState(STARTED.code())))
+                    .hasSize(2)
+                    .extracting(PolicyMonitorEntry::getId)
+                    .doesNotContainAnyElementsOf(waiting.stream().map(Entity::getId).toList());
+        }
+
         @Test
         void shouldLeaseOrderByStateTimestamp() {
 
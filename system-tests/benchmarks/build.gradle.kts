@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(project(":spi:common:core-spi"))
+    jmhImplementation(project(":spi:common:json-ld-spi"))
+    jmhImplementation(project(":spi:common:participant-spi"))
+    jmhImplementation(project(":spi:common:policy-engine-spi"))
+    jmhImplementation(project(":spi:common:transform-spi"))
+    jmhImplementation(project(":spi:control-plane:asset-spi"))
+    jmhImplementation(project(":spi:control-plane:contract-spi"))
+    jmhImplementation(project(":spi:control-plane:transfer-spi"))
+    jmhImplementation(project(":core:common:lib:policy-engine-lib"))
+    jmhImplementation(project(":core:common:lib:json-ld-lib"))
+    jmhImplementation(project(":core:common:lib:transform-lib"))
+    jmhImplementation(project(":core:common:lib:store-lib"))
+    jmhImplementation(project(":core:common:lib:query-lib"))
+    jmhImplementation(project(":core:control-plane:control-plane-core"))
+    jmhImplementation(project(":core:control-plane:control-plane-transform"))
+    jmhImplementation(testFixtures(project(":spi:control-plane:contract-spi")))
+    jmhImplementation(testFixtures(project(":spi:control-plane:transfer-spi")))
+
+    jmhRuntimeOnly(libs.parsson)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("us")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    humanOutputFile.set(layout.buildDirectory.file("results/jmh/human.txt"))
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+edcBuild {
+    publish.set(false)
+}
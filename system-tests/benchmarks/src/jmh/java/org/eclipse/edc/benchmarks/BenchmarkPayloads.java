@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.participant.spi.ParticipantIdMapper;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Payloads and collaborators shared by the benchmarks.
+ */
+final class BenchmarkPayloads {
+
+    static final String CATALOG = "catalog";
+    static final String CONTRACT_REQUEST_MESSAGE = "contract-request-message";
+    static final String TRANSFER_REQUEST_MESSAGE = "transfer-request-message";
+
+    static final Monitor NOOP_MONITOR = new Monitor() {
+    };
+
+    static final ParticipantIdMapper IDENTITY_PARTICIPANT_ID_MAPPER = new ParticipantIdMapper() {
+        @Override
+        public String toIri(String participantId) {
+            return participantId;
+        }
+
+        @Override
+        public String fromIri(String iriParticipantId) {
+            return iriParticipantId;
+        }
+    };
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Loads one of the compacted DSP messages stored in the {@code dsp} resource folder.
+     *
+     * @param name the payload name, without extension.
+     * @return the payload.
+     */
+    static JsonObject dspPayload(String name) {
+        try (var stream = BenchmarkPayloads.class.getClassLoader().getResourceAsStream("dsp/" + name + ".json")) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Payload %s not found".formatted(name));
+            }
+            try (var reader = Json.createReader(stream)) {
+                return reader.readObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.defaults.storage.contractnegotiation.InMemoryContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.defaults.storage.transferprocess.InMemoryTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Queries on the in-memory transfer process store, contract negotiation store and asset index, filled with entities
+ * built from the store test fixtures.
+ */
+@State(Scope.Benchmark)
+public class InMemoryStoresBenchmark {
+
+    private static final TransferProcessStates[] TRANSFER_STATES = TransferProcessStates.values();
+    private static final ContractNegotiationStates[] NEGOTIATION_STATES = ContractNegotiationStates.values();
+
+    @Param({ "1000", "10000" })
+    public int size;
+
+    private InMemoryTransferProcessStore transferProcessStore;
+    private InMemoryContractNegotiationStore contractNegotiationStore;
+    private InMemoryAssetIndex assetIndex;
+    private QuerySpec transferProcessesInState;
+    private QuerySpec negotiationsByCounterParty;
+    private List<List<Criterion>> assetSelectors;
+    private String existingId;
+
+    @Setup
+    public void setUp() {
+        var clock = Clock.systemUTC();
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        transferProcessStore = new InMemoryTransferProcessStore(clock, criterionOperatorRegistry);
+        contractNegotiationStore = new InMemoryContractNegotiationStore(clock, criterionOperatorRegistry);
+        assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
+
+        IntStream.range(0, size).forEach(i -> {
+            var id = "entity-" + i;
+            transferProcessStore.save(createTransferProcess(id, TRANSFER_STATES[i % TRANSFER_STATES.length]));
+            contractNegotiationStore.save(createNegotiationBuilder(id)
+                    .counterPartyId("counter-party-" + (i % 100))
+                    .state(NEGOTIATION_STATES[i % NEGOTIATION_STATES.length].code())
+                    .build());
+            assetIndex.create(Asset.Builder.newInstance()
+                    .id(id)
+                    .property("category", "category-" + (i % 10))
+                    .property("owner", "owner-" + (i % 100))
+                    .dataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                    .build());
+        });
+
+        existingId = "entity-" + (size / 2);
+        transferProcessesInState = QuerySpec.Builder.newInstance()
+                .filter(criterion("state", "=", TransferProcessStates.STARTED.code()))
+                .limit(50)
+                .build();
+        negotiationsByCounterParty = QuerySpec.Builder.newInstance()
+                .filter(criterion("counterPartyId", "=", "counter-party-42"))
+                .limit(50)
+                .build();
+        assetSelectors = List.of(
+                List.of(criterion("category", "=", "category-1")),
+                List.of(criterion("category", "=", "category-2"), criterion("owner", "=", "owner-12")),
+                List.of(criterion("owner", "in", List.of("owner-3", "owner-4")))
+        );
+    }
+
+    @Benchmark
+    public TransferProcess findTransferProcessById() {
+        return transferProcessStore.findById(existingId);
+    }
+
+    @Benchmark
+    public List<TransferProcess> queryTransferProcesses() {
+        return transferProcessStore.findAll(transferProcessesInState).toList();
+    }
+
+    @Benchmark
+    public List<ContractNegotiation> queryContractNegotiations() {
+        return contractNegotiationStore.queryNegotiations(negotiationsByCounterParty).toList();
+    }
+
+    @Benchmark
+    public List<Asset> queryAssetsBySelectors() {
+        return assetIndex.queryAssets(QuerySpec.Builder.newInstance().limit(50).build(), assetSelectors).toList();
+    }
+}
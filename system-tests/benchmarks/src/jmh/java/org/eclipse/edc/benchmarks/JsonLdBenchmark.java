@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.CATALOG;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.CONTRACT_REQUEST_MESSAGE;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.NOOP_MONITOR;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.TRANSFER_REQUEST_MESSAGE;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.dspPayload;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA_2024_1;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+
+/**
+ * Expansion and compaction of DSP messages, as done on every protocol request and response.
+ */
+@State(Scope.Benchmark)
+public class JsonLdBenchmark {
+
+    private static final String DSP_SCOPE = "DSP";
+
+    @Param({ CATALOG, CONTRACT_REQUEST_MESSAGE, TRANSFER_REQUEST_MESSAGE })
+    public String payload;
+
+    private TitaniumJsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setUp() {
+        jsonLd = new TitaniumJsonLd(NOOP_MONITOR);
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DCT_PREFIX, DCT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA_2024_1, DSP_SCOPE);
+
+        compacted = dspPayload(payload);
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public JsonObject expand() {
+        return jsonLd.expand(compacted).getContent();
+    }
+
+    @Benchmark
+    public JsonObject compact() {
+        return jsonLd.compact(expanded, DSP_SCOPE).getContent();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Duty;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.PolicyType;
+import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * Evaluation of a catalog offer policy made of a permission with three constraints, a duty and a prohibition.
+ */
+@State(Scope.Benchmark)
+public class PolicyEngineBenchmark {
+
+    private static final String CATALOG_SCOPE = "catalog";
+    private static final Map<String, String> CLAIMS = Map.of("region", "eu", "purpose", "research", "membership", "active");
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        bindingRegistry.bind("use", CATALOG_SCOPE);
+        bindingRegistry.bind("compensate", CATALOG_SCOPE);
+        bindingRegistry.bind("distribute", CATALOG_SCOPE);
+        CLAIMS.keySet().forEach(key -> bindingRegistry.bind(key, CATALOG_SCOPE));
+
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), new RuleValidator(bindingRegistry));
+        policyEngine.registerScope(CATALOG_SCOPE, CatalogContext.class);
+        CLAIMS.keySet().forEach(key -> policyEngine.registerFunction(CatalogContext.class, Permission.class, key,
+                (operator, rightValue, permission, context) -> rightValue.equals(context.claims().get(key))));
+        policyEngine.registerFunction(CatalogContext.class, Duty.class, (duty, context) -> true);
+
+        policy = Policy.Builder.newInstance()
+                .type(PolicyType.OFFER)
+                .assigner("provider")
+                .target("asset-1")
+                .permission(Permission.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("use").build())
+                        .constraint(AndConstraint.Builder.newInstance()
+                                .constraint(constraint("region", "eu"))
+                                .constraint(constraint("purpose", "research"))
+                                .constraint(constraint("membership", "active"))
+                                .build())
+                        .duty(Duty.Builder.newInstance().action(Action.Builder.newInstance().type("compensate").build()).build())
+                        .build())
+                .prohibition(Prohibition.Builder.newInstance()
+                        .action(Action.Builder.newInstance().type("distribute").build())
+                        .constraint(constraint("region", "us"))
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public Result<Void> evaluateSamePolicy() {
+        return policyEngine.evaluate(policy, new CatalogContext(CLAIMS));
+    }
+
+    @Benchmark
+    public Result<Void> evaluateEquivalentPolicy() {
+        return policyEngine.evaluate(policy.toBuilder().build(), new CatalogContext(CLAIMS));
+    }
+
+    private static AtomicConstraint constraint(String leftOperand, String rightOperand) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(leftOperand))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(rightOperand))
+                .build();
+    }
+
+    public static class CatalogContext extends PolicyContextImpl {
+
+        private final Map<String, String> claims;
+
+        CatalogContext(Map<String, String> claims) {
+            this.claims = claims;
+        }
+
+        Map<String, String> claims() {
+            return claims;
+        }
+
+        @Override
+        public String scope() {
+            return CATALOG_SCOPE;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Filtering, sorting and paging of in-memory assets, as done by the in-memory stores and the management API.
+ */
+@State(Scope.Benchmark)
+public class ReflectionBasedQueryResolverBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int size;
+
+    private ReflectionBasedQueryResolver<Asset> queryResolver;
+    private List<Asset> assets;
+    private QuerySpec filterQuery;
+    private QuerySpec sortedQuery;
+
+    @Setup
+    public void setUp() {
+        queryResolver = new ReflectionBasedQueryResolver<>(Asset.class, CriterionOperatorRegistryImpl.ofDefaults());
+        assets = IntStream.range(0, size)
+                .mapToObj(i -> Asset.Builder.newInstance()
+                        .id("asset-" + i)
+                        .name("asset " + i)
+                        .contentType(i % 2 == 0 ? "application/json" : "text/csv")
+                        .property("category", "category-" + (i % 10))
+                        .build())
+                .toList();
+        filterQuery = QuerySpec.Builder.newInstance()
+                .filter(criterion("contenttype", "=", "application/json"))
+                .filter(criterion("category", "in", List.of("category-2", "category-4")))
+                .limit(50)
+                .build();
+        sortedQuery = QuerySpec.Builder.newInstance()
+                .filter(criterion("name", "like", "asset 1%"))
+                .sortField("name")
+                .sortOrder(SortOrder.DESC)
+                .offset(10)
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public List<Asset> filter() {
+        return queryResolver.query(assets.stream(), filterQuery).toList();
+    }
+
+    @Benchmark
+    public List<Asset> filterAndSort() {
+        return queryResolver.query(assets.stream(), sortedQuery).toList();
+    }
+}
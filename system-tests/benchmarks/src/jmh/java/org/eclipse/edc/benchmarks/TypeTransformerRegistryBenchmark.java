@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025 Cofinity-X
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Cofinity-X - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.transform.odrl.OdrlTransformersFactory;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.edc.transform.spi.TypeTransformer;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.CONTRACT_REQUEST_MESSAGE;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.IDENTITY_PARTICIPANT_ID_MAPPER;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.NOOP_MONITOR;
+import static org.eclipse.edc.benchmarks.BenchmarkPayloads.dspPayload;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA_2024_1;
+
+/**
+ * Transformation of the offer contained in a contract request message from and to JSON-LD. Additional unrelated
+ * transformers can be registered to reproduce the size of a runtime registry.
+ */
+@State(Scope.Benchmark)
+public class TypeTransformerRegistryBenchmark {
+
+    @Param({ "0", "100" })
+    public int unrelatedTransformers;
+
+    private TypeTransformerRegistry registry;
+    private JsonObject expandedOffer;
+    private Policy offer;
+
+    @Setup
+    public void setUp() {
+        registry = new TypeTransformerRegistryImpl();
+        IntStream.range(0, unrelatedTransformers).forEach(i -> registry.register(new UnrelatedTransformer()));
+        OdrlTransformersFactory.jsonObjectToOdrlTransformers(IDENTITY_PARTICIPANT_ID_MAPPER).forEach(registry::register);
+        registry.register(new JsonObjectFromPolicyTransformer(Json.createBuilderFactory(Map.of()), IDENTITY_PARTICIPANT_ID_MAPPER));
+
+        var expandedMessage = new TitaniumJsonLd(NOOP_MONITOR).expand(dspPayload(CONTRACT_REQUEST_MESSAGE))
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        expandedOffer = expandedMessage.getJsonArray(DSPACE_SCHEMA_2024_1 + "offer").getJsonObject(0);
+        offer = registry.transform(expandedOffer, Policy.class)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<Policy> toPolicy() {
+        return registry.transform(expandedOffer, Policy.class);
+    }
+
+    @Benchmark
+    public Result<JsonObject> fromPolicy() {
+        return registry.transform(offer, JsonObject.class);
+    }
+
+    private static class UnrelatedTransformer implements TypeTransformer<StringBuilder, Integer> {
+
+        @Override
+        public Class<StringBuilder> getInputType() {
+            return StringBuilder.class;
+        }
+
+        @Override
+        public Class<Integer> getOutputType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer transform(@NotNull StringBuilder input, @NotNull TransformerContext context) {
+            return input.length();
+        }
+    }
+}